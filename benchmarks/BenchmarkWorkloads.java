@@ -0,0 +1,463 @@
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+
+import gridworld.actor.Actor;
+import gridworld.grid.BoundedGrid;
+import gridworld.grid.Grid;
+import gridworld.grid.Location;
+import gridworld.grid.OccupantVisitor;
+import gridworld.gui.ImageDisplay;
+import gridworld.world.World;
+
+/**
+ * Builds the game's hot paths as repeatable operations for the benchmarks in the bench package.  The
+ * game classes live in the default package, which JMH benchmarks cannot be declared in or import from,
+ * so each benchmark looks up one of these factories once during setup and then only calls the
+ * returned operation.  Every operation returns a value so the work is not optimized away.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class BenchmarkWorkloads
+{
+    private static final int SIZE = 10;
+    private static final long SEED = 20261018L;
+
+    /**
+     * Resolves one shot of a game without the display, starting a new game whenever a fleet is sunk.  The
+     * shot goes through GameEngine.fire, which checks it against the opponent's ocean and records it, and
+     * then through hitCheck, which counts the hit on the struck ship and chooses the icon.  The worlds are
+     * QuietWorlds, whose setGraphics does nothing, so the message, icon and Swing timers a player sees
+     * after each shot are left out.  Each player fires on the squares in a fixed random order, and the
+     * layouts are replayed for every game.
+     * @return the operation, returning whether the shot hit
+     */
+    public static IntSupplier hitCheckWithoutDisplay()
+    {
+        final Fleet fleet = Fleet.classic(5);
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final GameEngine engine = new GameEngine(SIZE, SIZE, fleet);
+        final ShipPlacement[][] layouts = new ShipPlacement[2][fleet.getShipCount()];
+        final BattleshipWorld[] worlds = new BattleshipWorld[2];
+        final Battleship[][] ships = new Battleship[2][fleet.getShipCount()];
+        final int[][] orders = new int[2][];
+        for (int p = 0; p < 2; p++)
+        {
+            OceanBoard ocean = engine.getOcean(p + 1);
+            new RandomPlacement().placeFleet(ocean, random);
+            for (int i = 0; i < fleet.getShipCount(); i++)
+            {
+                layouts[p][i] = ocean.getShip(i);
+                ships[p][i] = new Battleship(fleet.getSize(i), false);
+            }
+            worlds[p] = new QuietWorld(new BoundedGrid<Actor>(SIZE, SIZE), p + 1);
+            orders[p] = shuffledCells(SIZE * SIZE, random);
+        }
+
+        return new IntSupplier()
+        {
+            private int[] shotCounts = new int[2];
+
+            public int getAsInt()
+            {
+                if (engine.isGameOver())
+                {
+                    engine.reset();
+                    for (int p = 0; p < 2; p++)
+                    {
+                        for (ShipPlacement ship : layouts[p])
+                        {
+                            engine.getOcean(p + 1).placeShip(ship.getShipId(), ship.getRow(), ship.getCol(),
+                                                             ship.isHorizontal());
+                        }
+                        shotCounts[p] = 0;
+                    }
+                }
+
+                // the player firing fires on their next square; the struck ship is the opponent's
+                int p = engine.getCurrentPlayer() - 1;
+                int cell = orders[p][shotCounts[p]++];
+                int row = cell / SIZE;
+                int col = cell % SIZE;
+                ShotResult result = engine.fire(row, col);
+                Battleship struckShip = null;
+                if (result.isHit())
+                {
+                    struckShip = ships[1 - p][engine.getOcean(2 - p).getShipAt(row, col).getShipId()];
+                }
+                return worlds[p].hitCheck(result, struckShip, null) ? 1 : 0;
+            }
+        };
+    }
+
+    /**
+     * Lets a Computer fire one shot at a placed fleet, starting a new game whenever the fleet is sunk.
+     * @param strategy the name of the Computer's targeting strategy
+     * @param size the number of rows and columns in the ocean
+     * @return the operation, returning the square fired on
+     */
+    public static IntSupplier takeTurn(String strategy, final int size)
+    {
+        final Fleet fleet = Fleet.classic(5);
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final Computer computer = new Computer(5, size, size, Tournament.targetingNamed(strategy).get(),
+                                               new RandomPlacement(), SEED);
+        final BattleshipWorld world = new QuietWorld(new BoundedGrid<Actor>(size, size), 2);
+        final OceanBoard ocean = new OceanBoard(size, size, fleet);
+        new RandomPlacement().placeFleet(ocean, random);
+
+        // the layout is replayed for every game, so only the shots are measured
+        final ShipPlacement[] layout = new ShipPlacement[fleet.getShipCount()];
+        for (int i = 0; i < layout.length; i++)
+        {
+            layout[i] = ocean.getShip(i);
+        }
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                if (ocean.isFleetSunk())
+                {
+                    ocean.clear();
+                    for (ShipPlacement ship : layout)
+                    {
+                        ocean.placeShip(ship.getShipId(), ship.getRow(), ship.getCol(), ship.isHorizontal());
+                    }
+                    computer.getTargeting().newGame(size, size, fleet, random.split());
+                }
+
+                Location shot = computer.takeTurn(world);
+                ShotResult result = ocean.fire(shot.getRow(), shot.getCol());
+                ShipPlacement sunkShip = null;
+                if (result == ShotResult.SUNK)
+                {
+                    sunkShip = ocean.getShipAt(shot.getRow(), shot.getCol());
+                }
+                computer.shotResolved(shot, result, sunkShip);
+                return shot.getRow() * size + shot.getCol();
+            }
+        };
+    }
+
+    /**
+     * Picks a random empty location in a square world with some of its squares occupied.
+     * @param size the number of rows and columns in the world
+     * @param fillPercent the percentage of squares occupied
+     * @return the operation, returning the row of the location picked
+     */
+    public static IntSupplier randomEmptyLocation(int size, int fillPercent)
+    {
+        final World<Actor> world = new World<Actor>(filledGrid(size, fillPercent));
+        world.setSeed(SEED);
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                return world.getRandomEmptyLocation().getRow();
+            }
+        };
+    }
+
+    /**
+     * Lists the occupied locations of a square grid with some of its squares occupied.
+     * @param size the number of rows and columns in the grid
+     * @param fillPercent the percentage of squares occupied
+     * @return the operation, returning the number of occupied locations
+     */
+    public static IntSupplier occupiedLocations(int size, int fillPercent)
+    {
+        final BoundedGrid<Actor> grid = filledGrid(size, fillPercent);
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                return grid.getOccupiedLocations().size();
+            }
+        };
+    }
+
+    /**
+     * Visits the occupants of a square grid with some of its squares occupied.
+     * @param size the number of rows and columns in the grid
+     * @param fillPercent the percentage of squares occupied
+     * @return the operation, returning the sum of the occupied columns
+     */
+    public static IntSupplier visitOccupants(int size, int fillPercent)
+    {
+        final BoundedGrid<Actor> grid = filledGrid(size, fillPercent);
+        final ColumnSum visitor = new ColumnSum();
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                visitor.sum = 0;
+                grid.forEachOccupant(visitor);
+                return visitor.sum;
+            }
+        };
+    }
+
+    /**
+     * Looks up random locations in a sparse grid spread over a million rows
+     * and columns, half of them occupied.
+     * @param gridName the simple name of a grid class in gridworld.grid
+     * @param occupants the number of occupied locations
+     * @return the operation, returning whether the location was occupied
+     */
+    @SuppressWarnings("unchecked")
+    public static IntSupplier sparseLookup(String gridName, int occupants)
+        throws ReflectiveOperationException
+    {
+        final Grid<Actor> grid = (Grid<Actor>) Class.forName("gridworld.grid." + gridName).getConstructor().newInstance();
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final Location[] probes = new Location[2 * occupants];
+        for (int i = 0; i < probes.length; i++)
+        {
+            probes[i] = new Location(random.nextInt(1000000), random.nextInt(1000000));
+            if (i % 2 == 0)
+            {
+                grid.put(probes[i], new Actor());
+            }
+        }
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                return grid.get(probes[random.nextInt(probes.length)]) != null ? 1 : 0;
+            }
+        };
+    }
+
+    /**
+     * Draws a board's worth of ship parts, hits and misses into an image, the
+     * way the grid draws its occupants on every paint.
+     * @param cellSize the width and height of a cell in pixels
+     * @return the operation, returning a pixel of the image
+     */
+    public static IntSupplier drawOccupants(final int cellSize) throws IOException
+    {
+        final ImageDisplay display = new ImageDisplay(BattleshipPart.class);
+        final BufferedImage image = new BufferedImage(SIZE * cellSize, SIZE * cellSize,
+                                                      BufferedImage.TYPE_INT_RGB);
+        final BattleshipPart[] parts = new BattleshipPart[SIZE * SIZE];
+        for (int cell = 0; cell < parts.length; cell++)
+        {
+            parts[cell] = new BattleshipPart();
+            parts[cell].setImage(cell % 8);
+        }
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                Graphics2D g2 = image.createGraphics();
+                for (int cell = 0; cell < parts.length; cell++)
+                {
+                    Rectangle rect = new Rectangle(cell % SIZE * cellSize, cell / SIZE * cellSize,
+                                                   cellSize, cellSize);
+                    display.draw(parts[cell], null, g2, rect);
+                }
+                g2.dispose();
+                return image.getRGB(cellSize / 2, cellSize / 2);
+            }
+        };
+    }
+
+    /**
+     * Checks a random square against the squares a player has already clicked.
+     * @param clicks the number of squares already clicked
+     * @return the operation, returning whether the square was already clicked
+     */
+    public static IntSupplier doubleClick(int clicks)
+    {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final ShotHistory pastClicks = new ShotHistory(SIZE, SIZE);
+        for (int cell : shuffledCells(SIZE * SIZE, random))
+        {
+            if (pastClicks.getShotCount() == clicks)
+            {
+                break;
+            }
+            pastClicks.record(cell / SIZE, cell % SIZE);
+        }
+
+        final Location[] probes = new Location[SIZE * SIZE];
+        for (int cell = 0; cell < probes.length; cell++)
+        {
+            probes[cell] = new Location(cell / SIZE, cell % SIZE);
+        }
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                return Game.doubleClick(pastClicks, probes[random.nextInt(probes.length)]) ? 1 : 0;
+            }
+        };
+    }
+
+    /**
+     * Places a whole fleet at random on an empty square ocean.
+     * @param size the number of rows and columns in the ocean
+     * @param ships the number of ships in the classic fleet, 1 to 5
+     * @return the operation, returning the first square of the first ship
+     */
+    public static IntSupplier randomPlacement(int size, int ships)
+    {
+        final OceanBoard ocean = new OceanBoard(size, size, Fleet.classic(ships));
+        final PlacementStrategy placement = new RandomPlacement();
+        final SplittableRandom random = new SplittableRandom(SEED);
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                ocean.clear();
+                placement.placeFleet(ocean, random);
+                ShipPlacement first = ocean.getShip(0);
+                return first.getRow() * size + first.getCol();
+            }
+        };
+    }
+
+    /**
+     * Plays a whole headless game between two computer players.
+     * @param strategy1 the name of the first player's targeting strategy
+     * @param strategy2 the name of the second player's targeting strategy
+     * @return the operation, returning the winning player
+     */
+    public static IntSupplier fullGame(String strategy1, String strategy2)
+    {
+        final Match match = new Match(SIZE, SIZE, Fleet.classic(5));
+        final TargetingStrategy targeting1 = Tournament.targetingNamed(strategy1).get();
+        final TargetingStrategy targeting2 = Tournament.targetingNamed(strategy2).get();
+        final PlacementStrategy placement1 = new RandomPlacement();
+        final PlacementStrategy placement2 = new RandomPlacement();
+        final SplittableRandom random = new SplittableRandom(SEED);
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                return match.play(placement1, targeting1, placement2, targeting2, random.split());
+            }
+        };
+    }
+
+    /**
+     * Saves a finished game to memory and loads it back, replaying every shot.
+     * @param size the number of rows and columns in the ocean
+     * @return the operation, returning the number of bytes saved
+     */
+    public static IntSupplier snapshot(int size)
+    {
+        final Match match = new Match(size, size, Fleet.classic(5));
+        match.play(new RandomPlacement(), new HuntTargeting(), new RandomPlacement(), new HuntTargeting(),
+                   new SplittableRandom(SEED));
+        final GameSnapshot saved = new GameSnapshot(match.getEngine(), SEED);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        return new IntSupplier()
+        {
+            public int getAsInt()
+            {
+                try
+                {
+                    bytes.reset();
+                    saved.write(new DataOutputStream(bytes));
+                    GameSnapshot loaded = GameSnapshot.read(
+                            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+                    return bytes.size() + loaded.getEngine().getWinner();
+                }
+                catch (IOException e)
+                {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Builds a square grid with a random selection of its squares occupied.
+     * @param size the number of rows and columns in the grid
+     * @param fillPercent the percentage of squares occupied
+     * @return the grid
+     */
+    private static BoundedGrid<Actor> filledGrid(int size, int fillPercent)
+    {
+        BoundedGrid<Actor> grid = new BoundedGrid<Actor>(size, size);
+        int[] cells = shuffledCells(size * size, new SplittableRandom(SEED));
+        int occupied = (int) ((long) cells.length * fillPercent / 100);
+        for (int i = 0; i < occupied; i++)
+        {
+            grid.put(new Location(cells[i] / size, cells[i] % size), new Actor());
+        }
+        return grid;
+    }
+
+    /**
+     * Shuffles the numbers of the squares of a board.
+     * @param cellCount the number of squares
+     * @param random the random number generator
+     * @return every square number once, in random order
+     */
+    private static int[] shuffledCells(int cellCount, SplittableRandom random)
+    {
+        int[] cells = new int[cellCount];
+        for (int i = 0; i < cellCount; i++)
+        {
+            cells[i] = i;
+        }
+        for (int i = cellCount - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int swap = cells[i];
+            cells[i] = cells[j];
+            cells[j] = swap;
+        }
+        return cells;
+    }
+
+    /**
+     * Adds up the columns of the occupants it visits.
+     */
+    private static class ColumnSum implements OccupantVisitor<Actor>
+    {
+        int sum;
+
+        public void visit(int row, int col, Actor occupant)
+        {
+            sum += col;
+        }
+    }
+
+    /**
+     * A player world that skips the timed hit and miss displays.  They start Swing timers that end by
+     * handing the turn to the Game, which a benchmark does not have.
+     */
+    private static class QuietWorld extends BattleshipWorld
+    {
+        QuietWorld(BoundedGrid<Actor> grid, int playerNum)
+        {
+            super(grid, playerNum);
+        }
+
+        public void setGraphics(int messageType, int sleepTimer, BattleshipPart hitOrMissIcon,
+                                Battleship struckShip, Computer compPlayer)
+        {
+        }
+    }
+}
@@ -0,0 +1,347 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Checks EndgameSolver against brute force and times it.  On small boards every position reached by
+ * random shots at a random fleet is solved both ways, and the layout counts and chances must match
+ * exactly; then positions on the classic 10x10 ocean are timed at every stage of a game.  Exits with
+ * status 1 on the first disagreement.
+ * <pre>
+ *     mvn -Pjmh package
+ *     java -cp target/classes EndgameSolverCheck [positions per board]
+ * </pre>
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class EndgameSolverCheck
+{
+    /**
+     * Runs the checks.
+     * @param args the number of random positions per small board (default 500)
+     */
+    public static void main(String[] args)
+    {
+        int positions = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+
+        // a ship may not lie wholly on hits: it would have been announced sunk
+        BitBoard blocked = new BitBoard(1, 6);
+        BitBoard hits = new BitBoard(1, 6);
+        hits.set(0);
+        hits.set(1);
+        check(new int[] {3, 2}, 1, 6, blocked, hits);
+
+        SplittableRandom random = new SplittableRandom(1);
+        int[][] fleets = {{3, 2}, {2, 2}, {3, 2, 2}, {4, 3, 2}, {3, 3, 2, 1}};
+        int checked = 0;
+        for (int n = 4; n <= 5; n++)
+        {
+            for (int[] fleet : fleets)
+            {
+                for (int i = 0; i < positions; i++)
+                {
+                    if (checkRandomPosition(n, fleet, random))
+                    {
+                        checked++;
+                    }
+                }
+            }
+        }
+        System.out.println(checked + " positions match brute force");
+
+        time(random);
+    }
+
+    /**
+     * Fires random shots at a random layout and checks the position they reach.
+     * @param n number of rows and columns
+     * @param sizes the fleet
+     * @param random the random number generator
+     * @return true if the layout was placed and the position checked
+     */
+    private static boolean checkRandomPosition(int n, int[] sizes, SplittableRandom random)
+    {
+        String[] names = new String[sizes.length];
+        Arrays.fill(names, "ship");
+        OceanBoard ocean = new OceanBoard(n, n, new Fleet(sizes, names));
+        try
+        {
+            new RandomPlacement().placeFleet(ocean, random);
+        }
+        catch (IllegalStateException e)
+        {
+            return false;   // fleet too crowded for the board
+        }
+
+        BitBoard blocked = new BitBoard(n, n);
+        BitBoard hits = new BitBoard(n, n);
+        boolean[] sunk = new boolean[sizes.length];
+        int shots = random.nextInt(n * n);
+        for (int s = 0; s < shots; s++)
+        {
+            int cell = random.nextInt(n * n);
+            if (!ocean.isFired(cell / n, cell % n))
+            {
+                fire(ocean, cell, blocked, hits, sunk);
+            }
+        }
+
+        int afloat = 0;
+        for (int i = 0; i < sizes.length; i++)
+        {
+            afloat += sunk[i] ? 0 : 1;
+        }
+        if (afloat == 0)
+        {
+            return false;
+        }
+        int[] left = new int[afloat];
+        for (int i = 0, k = 0; i < sizes.length; i++)
+        {
+            if (!sunk[i])
+            {
+                left[k++] = sizes[i];
+            }
+        }
+        check(left, n, n, blocked, hits);
+        return true;
+    }
+
+    /**
+     * Fires on a square, recording what the shot revealed the way a targeting strategy learns it.
+     * @param ocean the ocean fired on
+     * @param cell the row-major number of the square
+     * @param blocked receives misses and the squares of sunk ships
+     * @param hits receives hits not yet tied to a sunk ship
+     * @param sunk receives the sunk ships, by fleet index
+     */
+    private static void fire(OceanBoard ocean, int cell, BitBoard blocked, BitBoard hits, boolean[] sunk)
+    {
+        int cols = ocean.getNumCols();
+        ShotResult result = ocean.fire(cell / cols, cell % cols);
+        if (result == ShotResult.MISS)
+        {
+            blocked.set(cell);
+            return;
+        }
+        hits.set(cell);
+        if (result == ShotResult.SUNK)
+        {
+            ShipPlacement ship = ocean.getShipAt(cell / cols, cell % cols);
+            sunk[ship.getShipId()] = true;
+            for (int j = 0; j < ship.getSize(); j++)
+            {
+                int segment = ship.getSegmentRow(j) * cols + ship.getSegmentCol(j);
+                hits.clear(segment);
+                blocked.set(segment);
+            }
+        }
+    }
+
+    /**
+     * Solves a position both ways and exits if they disagree.
+     * @param sizes the ships afloat
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param blocked misses and the squares of sunk ships
+     * @param hits hits not yet tied to a sunk ship
+     */
+    private static void check(int[] sizes, int rows, int cols, BitBoard blocked, BitBoard hits)
+    {
+        long[] cellCounts = new long[rows * cols];
+        long labelled = bruteForce(sizes, 0, rows, cols, blocked, hits, new boolean[rows * cols], cellCounts);
+
+        // the solver counts layouts differing only by swapping equal ships once
+        long swaps = 1;
+        int[] sorted = sizes.clone();
+        Arrays.sort(sorted);
+        for (int i = 0, run = 1; i < sorted.length; i++)
+        {
+            run = (i > 0 && sorted[i] == sorted[i - 1]) ? run + 1 : 1;
+            swaps *= run;
+        }
+
+        double[] probabilities = new double[rows * cols];
+        long total = new EndgameSolver(rows, cols, Integer.MAX_VALUE).solve(sizes, blocked, hits, probabilities);
+        if (total * swaps != labelled)
+            fail("layouts " + total + " x " + swaps + " != " + labelled, sizes, rows, cols, blocked, hits);
+        for (int cell = 0; total > 0 && cell < rows * cols; cell++)
+        {
+            if (Math.abs(probabilities[cell] - (double) cellCounts[cell] / labelled) > 1e-12)
+                fail("square " + cell + ": " + probabilities[cell] + " != " + (double) cellCounts[cell] / labelled,
+                     sizes, rows, cols, blocked, hits);
+        }
+    }
+
+    /**
+     * Counts every layout of distinct ships by trying each placement of each ship in turn.
+     * @param sizes the ships
+     * @param k the next ship to lay
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param blocked squares no ship may cover
+     * @param hits squares some ship must cover
+     * @param occupied squares covered by the ships laid so far
+     * @param cellCounts receives the number of layouts covering each square
+     * @return the number of layouts
+     */
+    private static long bruteForce(int[] sizes, int k, int rows, int cols, BitBoard blocked, BitBoard hits,
+                                   boolean[] occupied, long[] cellCounts)
+    {
+        if (k == sizes.length)
+        {
+            for (int cell = 0; cell < occupied.length; cell++)
+            {
+                if (hits.get(cell) && !occupied[cell])
+                {
+                    return 0;
+                }
+            }
+            for (int cell = 0; cell < occupied.length; cell++)
+            {
+                cellCounts[cell] += occupied[cell] ? 1 : 0;
+            }
+            return 1;
+        }
+
+        int size = sizes[k];
+        long total = 0;
+        for (int orientation = 0; orientation < (size > 1 ? 2 : 1); orientation++)
+        {
+            int step = (orientation == 0) ? 1 : cols;
+            for (int row = 0; row < rows; row++)
+            {
+                for (int col = 0; col < cols; col++)
+                {
+                    if ((orientation == 0) ? col + size > cols : row + size > rows)
+                    {
+                        continue;
+                    }
+
+                    int start = row * cols + col;
+                    boolean fits = true;
+                    int onHits = 0;
+                    for (int j = 0, cell = start; j < size; j++, cell += step)
+                    {
+                        fits &= !occupied[cell] && !blocked.get(cell);
+                        onHits += hits.get(cell) ? 1 : 0;
+                    }
+                    if (!fits || onHits == size)
+                    {
+                        continue;
+                    }
+
+                    for (int j = 0, cell = start; j < size; j++, cell += step)
+                    {
+                        occupied[cell] = true;
+                    }
+                    total += bruteForce(sizes, k + 1, rows, cols, blocked, hits, occupied, cellCounts);
+                    for (int j = 0, cell = start; j < size; j++, cell += step)
+                    {
+                        occupied[cell] = false;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Times the solver with its default limit on the classic fleet at every stage of a 10x10 game.
+     * @param random the random number generator
+     */
+    private static void time(SplittableRandom random)
+    {
+        Fleet fleet = Fleet.classic(5);
+        int[] sizes = new int[fleet.getShipCount()];
+        for (int i = 0; i < sizes.length; i++)
+        {
+            sizes[i] = fleet.getSize(i);
+        }
+
+        EndgameSolver solver = new EndgameSolver(10, 10);
+        double[] probabilities = new double[100];
+        long[] times = new long[20 * 200];
+        int timed = 0;
+        int solved = 0;
+        for (int round = 0; round < 2; round++)   // the first round warms the solver up
+        {
+            timed = 0;
+            solved = 0;
+            for (int stage = 0; stage < 100; stage += 5)
+            {
+                for (int game = 0; game < 200; game++)
+                {
+                    OceanBoard ocean = new OceanBoard(10, 10, fleet);
+                    new RandomPlacement().placeFleet(ocean, random);
+                    BitBoard blocked = new BitBoard(10, 10);
+                    BitBoard hits = new BitBoard(10, 10);
+                    boolean[] sunk = new boolean[sizes.length];
+                    for (int s = 0; s < stage; s++)
+                    {
+                        int cell = random.nextInt(100);
+                        if (!ocean.isFired(cell / 10, cell % 10) && !ocean.isFleetSunk())
+                        {
+                            fire(ocean, cell, blocked, hits, sunk);
+                        }
+                    }
+
+                    int afloat = 0;
+                    for (int i = 0; i < sizes.length; i++)
+                    {
+                        afloat += sunk[i] ? 0 : 1;
+                    }
+                    int[] left = new int[afloat];
+                    for (int i = 0, k = 0; i < sizes.length; i++)
+                    {
+                        if (!sunk[i])
+                        {
+                            left[k++] = sizes[i];
+                        }
+                    }
+
+                    long start = System.nanoTime();
+                    if (solver.solve(left, blocked, hits, probabilities) >= 0)
+                    {
+                        solved++;
+                    }
+                    times[timed++] = System.nanoTime() - start;
+                }
+            }
+        }
+
+        Arrays.sort(times, 0, timed);
+        long sum = 0;
+        for (int i = 0; i < timed; i++)
+        {
+            sum += times[i];
+        }
+        System.out.printf("10x10 classic fleet, %d positions, %d solved: mean %.2f ms, 99th percentile %.2f ms, "
+                          + "max %.2f ms%n", timed, solved, sum / 1e6 / timed, times[timed * 99 / 100] / 1e6,
+                          times[timed - 1] / 1e6);
+    }
+
+    /**
+     * Reports a disagreement and exits.
+     * @param message what disagreed
+     * @param sizes the ships afloat
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param blocked misses and the squares of sunk ships
+     * @param hits hits not yet tied to a sunk ship
+     */
+    private static void fail(String message, int[] sizes, int rows, int cols, BitBoard blocked, BitBoard hits)
+    {
+        StringBuilder board = new StringBuilder();
+        for (int cell = 0; cell < rows * cols; cell++)
+        {
+            board.append(blocked.get(cell) ? 'o' : hits.get(cell) ? 'x' : '.');
+            if (cell % cols == cols - 1)
+            {
+                board.append('\n');
+            }
+        }
+        System.out.println("MISMATCH " + message + " for ships " + Arrays.toString(sizes) + "\n" + board);
+        System.exit(1);
+    }
+}
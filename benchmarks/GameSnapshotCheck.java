@@ -0,0 +1,132 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Checks that GameSnapshot.read rejects damaged or hostile saves with an IOException before building a
+ * game from them, and still reads a sound one.  Each save is only a header: the board size and fleet,
+ * with no ships placed and no shots.  Exits with status 1 on the first save handled wrongly.
+ * <pre>
+ *     mvn -Pjmh package
+ *     java -Xmx256m -cp target/classes GameSnapshotCheck
+ * </pre>
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class GameSnapshotCheck
+{
+    /**
+     * Runs the checks.
+     * @param args not used
+     * @throws IOException if a save could not be built
+     */
+    public static void main(String[] args) throws IOException
+    {
+        // a few hundred bytes claiming ships far longer than the board
+        int[] huge = new int[60];
+        Arrays.fill(huge, 65535);
+        reject("ships longer than the ocean", header(4096, 4096, huge));
+
+        reject("a ship of size 0", header(10, 10, new int[] {5, 0, 3}));
+        reject("a ship longer than both sides", header(10, 8, new int[] {11}));
+
+        int[] crowded = new int[11];
+        Arrays.fill(crowded, 10);
+        reject("a fleet covering more squares than the ocean", header(10, 10, crowded));
+
+        accept("the classic fleet", header(10, 10, new int[] {5, 4, 3, 3, 2}));
+        accept("a ship as long as the longer side", header(3, 12, new int[] {12, 3}));
+        accept("a fleet covering every square", header(2, 2, new int[] {2, 2}));
+        System.out.println("all saves handled");
+    }
+
+    /**
+     * Builds a save of an unstarted game.
+     * @param rows number of rows in the ocean
+     * @param cols number of columns in the ocean
+     * @param sizes the ships' sizes
+     * @return the saved bytes
+     * @throws IOException if the save could not be written
+     */
+    private static byte[] header(int rows, int cols, int[] sizes) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x42534850);
+        out.writeByte(1);
+        out.writeLong(1);
+        out.writeInt(rows);
+        out.writeInt(cols);
+        out.writeShort(sizes.length);
+        for (int size : sizes)
+        {
+            out.writeShort(size);
+            out.writeUTF("ship");
+        }
+        for (int playerNum = 1; playerNum <= 2; playerNum++)
+        {
+            for (int i = 0; i < sizes.length; i++)
+            {
+                out.writeByte(0);
+            }
+            out.writeInt(0);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Checks that a save is rejected with an IOException.
+     * @param what a description of the save
+     * @param save the saved bytes
+     */
+    private static void reject(String what, byte[] save)
+    {
+        try
+        {
+            GameSnapshot.read(new DataInputStream(new ByteArrayInputStream(save)));
+        }
+        catch (IOException e)
+        {
+            System.out.println("rejected " + what + ": " + e.getMessage());
+            return;
+        }
+        catch (Throwable e)
+        {
+            fail(what + " threw " + e);
+        }
+        fail(what + " was read");
+    }
+
+    /**
+     * Checks that a save is read.
+     * @param what a description of the save
+     * @param save the saved bytes
+     */
+    private static void accept(String what, byte[] save)
+    {
+        try
+        {
+            GameSnapshot.read(new DataInputStream(new ByteArrayInputStream(save)));
+            System.out.println("read " + what);
+        }
+        catch (Throwable e)
+        {
+            fail(what + " threw " + e);
+        }
+    }
+
+    /**
+     * Reports a save handled wrongly and exits.
+     * @param message what went wrong
+     */
+    private static void fail(String message)
+    {
+        System.out.println("FAILED " + message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,50 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Whole headless games played per second between two computer players, on one thread.  Run with
+ * -t to measure how the games scale across threads; every thread plays its own games.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameThroughputBenchmark
+{
+    @Param({"hunt:hunt", "density:hunt", "density:density", "montecarlo:density"})
+    String players;
+
+    IntSupplier game;
+
+    @Setup
+    public void setup()
+    {
+        String[] names = players.split(":");
+        game = Workloads.create("fullGame", names[0], names[1]);
+    }
+
+    @Benchmark
+    public int fullGame()
+    {
+        return game.getAsInt();
+    }
+}
@@ -0,0 +1,224 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of the calls made on every shot or every frame of a game.  hitCheckWithoutDisplay
+ * leaves out the timed message and icon display that follows each shot in a real game.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBenchmarks
+{
+    @State(Scope.Thread)
+    public static class HitCheckWithoutDisplay
+    {
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("hitCheckWithoutDisplay");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TakeTurn
+    {
+        @Param({"hunt", "parity", "random", "density"})
+        String strategy;
+
+        @Param({"10", "100", "1000"})
+        int boardSize;
+
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("takeTurn", strategy, boardSize);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FilledGrid
+    {
+        @Param({"10", "100", "1000"})
+        int size;
+
+        @Param({"50", "95"})
+        int fillPercent;
+
+        IntSupplier randomEmptyLocation;
+        IntSupplier occupiedLocations;
+        IntSupplier visitOccupants;
+
+        @Setup
+        public void setup()
+        {
+            randomEmptyLocation = Workloads.create("randomEmptyLocation", size, fillPercent);
+            occupiedLocations = Workloads.create("occupiedLocations", size, fillPercent);
+            visitOccupants = Workloads.create("visitOccupants", size, fillPercent);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DoubleClick
+    {
+        @Param({"10", "50", "99"})
+        int clicks;
+
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("doubleClick", clicks);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Placement
+    {
+        @Param({"10", "100"})
+        int size;
+
+        @Param({"3", "5"})
+        int ships;
+
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("randomPlacement", size, ships);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SparseGrid
+    {
+        @Param({"UnboundedGrid", "OpenAddressGrid"})
+        String grid;
+
+        @Param({"100", "100000"})
+        int occupants;
+
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("sparseLookup", grid, occupants);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Render
+    {
+        @Param({"16", "48"})
+        int cellSize;
+
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("drawOccupants", cellSize);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Snapshot
+    {
+        @Param({"10", "100"})
+        int size;
+
+        IntSupplier workload;
+
+        @Setup
+        public void setup()
+        {
+            workload = Workloads.create("snapshot", size);
+        }
+    }
+
+    @Benchmark
+    public int hitCheckWithoutDisplay(HitCheckWithoutDisplay state)
+    {
+        return state.workload.getAsInt();
+    }
+
+    @Benchmark
+    public int takeTurn(TakeTurn state)
+    {
+        return state.workload.getAsInt();
+    }
+
+    @Benchmark
+    public int getRandomEmptyLocation(FilledGrid state)
+    {
+        return state.randomEmptyLocation.getAsInt();
+    }
+
+    @Benchmark
+    public int getOccupiedLocations(FilledGrid state)
+    {
+        return state.occupiedLocations.getAsInt();
+    }
+
+    @Benchmark
+    public int forEachOccupant(FilledGrid state)
+    {
+        return state.visitOccupants.getAsInt();
+    }
+
+    @Benchmark
+    public int randomPlacement(Placement state)
+    {
+        return state.workload.getAsInt();
+    }
+
+    @Benchmark
+    public int doubleClick(DoubleClick state)
+    {
+        return state.workload.getAsInt();
+    }
+
+    @Benchmark
+    public int drawOccupants(Render state)
+    {
+        return state.workload.getAsInt();
+    }
+
+    @Benchmark
+    public int snapshot(Snapshot state)
+    {
+        return state.workload.getAsInt();
+    }
+
+    @Benchmark
+    public int sparseLookup(SparseGrid state)
+    {
+        return state.workload.getAsInt();
+    }
+}
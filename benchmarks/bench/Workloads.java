@@ -0,0 +1,46 @@
+package bench;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.IntSupplier;
+
+/**
+ * Looks up the operations built by BenchmarkWorkloads.  That class is in the default package with the
+ * game, where it can only be reached by reflection, so it is looked up once while a benchmark is set up.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+final class Workloads
+{
+    private Workloads()
+    {
+    }
+
+    /**
+     * Builds one of the game's hot paths as a repeatable operation.
+     * @param name the name of the BenchmarkWorkloads factory method
+     * @param args the arguments of the factory method, Integers for int parameters
+     * @return the operation
+     */
+    static IntSupplier create(String name, Object... args)
+    {
+        Class<?>[] types = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++)
+        {
+            types[i] = (args[i] instanceof Integer) ? int.class : args[i].getClass();
+        }
+
+        try
+        {
+            return (IntSupplier) Class.forName("BenchmarkWorkloads").getMethod(name, types).invoke(null, args);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw new IllegalStateException("could not set up " + name, e.getCause());
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new IllegalStateException("no workload named " + name, e);
+        }
+    }
+}
@@ -102,8 +102,8 @@ public class Battleship extends Actor
     }
     
     /**
-     * Gets whether Player attempted to place Battleship in column 11.
-     * @return true if Player set Battleship in column 11, false if Player did not set Battleship in column 11
+     * Gets whether Player attempted to place Battleship in the last column or row of the setup world.
+     * @return true if Player set Battleship in the last column or row, false if Player did not
      */
     public boolean getGridError()
     {
@@ -183,8 +183,8 @@ public class Battleship extends Actor
     }
     
     /**
-     * Sets whether the Player placed a Battleship in column 11.
-     * @param errorInput true if Player placed Battleship in column 11, false if they did not
+     * Sets whether the Player placed a Battleship in the last column or row of the setup world.
+     * @param errorInput true if Player placed Battleship in the last column or row, false if they did not
      */
     public void setGridError(boolean errorInput)
     {
@@ -451,6 +451,7 @@ public class Battleship extends Actor
     	// checks if row or length is greater than given grid size
         int shipRowLength = completeShip.get(0).getLocation().getRow() + (size - 1); 
         int shipColLength = completeShip.get(0).getLocation().getCol() - (size - 1); // changed for left rotation
+        int lastRow = completeShip.get(0).getGrid().getNumRows() - 1;
         
         // prevents horizontal-to-vertical rotation on top of another battleship
         for (int i = 0; i < shipLocations.size(); i++)
@@ -477,7 +478,7 @@ public class Battleship extends Actor
         }
         
         // handles rotate method differently if ship is horizontal or vertical
-        if (horizontal && shipRowLength <= 10 && !rotRight)
+        if (horizontal && shipRowLength <= lastRow && !rotRight)
         {
             for (int i = 1; i < completeShip.size(); i++)
             {
@@ -525,6 +526,8 @@ public class Battleship extends Actor
     	// checks if row or length is greater than given grid size
         int shipRowLength = completeShip.get(0).getLocation().getRow() + (size - 1);
         int shipColLength = completeShip.get(0).getLocation().getCol() + (size - 1);
+        int lastRow = completeShip.get(0).getGrid().getNumRows() - 1;
+        int lastCol = completeShip.get(0).getGrid().getNumCols() - 1;
         
         // prevents horizontal-to-vertical rotation on top of another battleship
         for (int i = 0; i < shipLocations.size(); i++)
@@ -551,7 +554,7 @@ public class Battleship extends Actor
         }
         
         // handles rotate method differently if ship is horizontal or vertical
-        if (horizontal && shipRowLength <= 10 && !rotLeft)
+        if (horizontal && shipRowLength <= lastRow && !rotLeft)
         {
             for (int i = 1; i < completeShip.size(); i++)
             {
@@ -564,7 +567,7 @@ public class Battleship extends Actor
             rotRight = false;
             horizontal = false;
         }
-        else if (!horizontal && shipColLength <= 10)
+        else if (!horizontal && shipColLength <= lastCol)
         {
             for (int i = 1; i < completeShip.size(); i++)
             {
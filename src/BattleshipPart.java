@@ -12,6 +12,7 @@ import gridworld.grid.Location;
 public class BattleshipPart extends Actor
 {
     private String battleshipSuffix;
+    private String imageSuffix;  // built once here instead of on every paint
     
     /**
      * Constructs a battleship part with no color and the default image.
@@ -19,6 +20,7 @@ public class BattleshipPart extends Actor
     public BattleshipPart()
     {
         battleshipSuffix = "";
+        imageSuffix = "_";
         setColor(null);
     }
     
@@ -54,6 +56,7 @@ public class BattleshipPart extends Actor
             default: battleshipSuffix = "";
                      break;
         }
+        imageSuffix = "_" + battleshipSuffix;
     }
 
     /**
@@ -62,7 +65,7 @@ public class BattleshipPart extends Actor
      */ 
     public String getImageSuffix()
     {
-        return "_" + battleshipSuffix;
+        return imageSuffix;
     }
     
     /**
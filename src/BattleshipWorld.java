@@ -48,6 +48,7 @@ public class BattleshipWorld extends ActorWorld
      */
     public BattleshipWorld(Grid<Actor> grid, int playerNumInput, Game gameInput)
     {
+    	super(grid);
     	playerShips = null;
     	shipLocations = null;
     	playerNum = playerNumInput;
@@ -61,6 +62,7 @@ public class BattleshipWorld extends ActorWorld
      */
     public BattleshipWorld(Grid<Actor> grid, int playerNumInput)
     {
+    	super(grid);
     	playerShips = null;
     	shipLocations = null;
     	playerNum = playerNumInput;
@@ -201,15 +203,17 @@ public class BattleshipWorld extends ActorWorld
     		}
     		if (description.equals("SPACE"))
     		{
-    			// checks if ship is placed in column 11
+    			// checks if ship is placed in the extra column or row ships spawn in
+    			int spawnCol = getGrid().getNumCols() - 1;
+    			int spawnRow = getGrid().getNumRows() - 1;
                 for(int i = 0; i < ship.getShipParts().size(); i++)
                 {
-                    if (ship.getShipParts().get(i).getLocation().getCol() == 10)
+                    if (ship.getShipParts().get(i).getLocation().getCol() == spawnCol)
                     {
                         ship.setGridError(true);
                     }
                     
-                    if (ship.getShipParts().get(i).getLocation().getRow() == 10)
+                    if (ship.getShipParts().get(i).getLocation().getRow() == spawnRow)
                     {
                         ship.setGridError(true);
                     }
@@ -283,10 +287,12 @@ public class BattleshipWorld extends ActorWorld
      */ 
     public void shipSpawner()
     {
-    	// setup block checkers
-        int blockedCol = 8;
+    	// setup block checkers (the last row and column of the setup world are where ships spawn)
+    	int spawnCol = getGrid().getNumCols() - 1;
+    	int spawnRow = getGrid().getNumRows() - 1;
+        int blockedCol = spawnRow - 2;
         int countCol = 0;
-        int blockedRow = 7;
+        int blockedRow = spawnCol - 3;
     	int countRow = 0;
     	
     	shipCount++;
@@ -302,12 +308,12 @@ public class BattleshipWorld extends ActorWorld
         // checks if user blocked themselves in vertically or horizontally
         for (int i = 0; i < shipLocations.size(); i++)
         {
-        	if (shipLocations.get(i).getCol() == 9)
+        	if (shipLocations.get(i).getCol() == spawnCol - 1)
         	{
         		countCol++;
         	}
         	
-        	if (shipLocations.get(i).getRow() == 9)
+        	if (shipLocations.get(i).getRow() == spawnRow - 1)
         	{
         		countRow++;
         	}
@@ -318,12 +324,12 @@ public class BattleshipWorld extends ActorWorld
         
         if (countCol < blockedCol)
         {
-        	temp.buildShip(this,  0, 10);
+        	temp.buildShip(this,  0, spawnCol);
         }
         else if (countRow < blockedRow)
         {
         	temp.setHorizontal(true);
-        	temp.buildShip(this, 10, 0);
+        	temp.buildShip(this, spawnRow, 0);
         }
         else
         {
@@ -361,41 +367,34 @@ public class BattleshipWorld extends ActorWorld
     }
     
     /**
-     * Checks if the Player click location hit or missed the opponent's Battleships.
-     * @param playerShip a list of the opponent's Battleships
+     * Shows whether the Player click location hit or missed the opponent's Battleships.  The shot itself is
+     * resolved by the GameEngine; this world only displays the outcome.
+     * @param result the outcome of the shot from the game engine
+     * @param struckShip the opponent's Battleship that was hit, or null if the shot missed
      * @param compPlayer the Computer Player
-     * @param playerNum the identifying number of the Player/Computer
      * @return true if the Player hit the Battleship, false if the Player missed the Battleship
      */ 
-    public boolean hitCheck(ArrayList<Battleship> playerShip, Computer compPlayer)
+    public boolean hitCheck(ShotResult result, Battleship struckShip, Computer compPlayer)
     {
     	int sleepTimer = 2000;
         BattleshipPart hitOrMissIcon = new BattleshipPart();
         
-        // checking if player clicked correct location and setting message and icon appropriately
-        for (int i = 0; i < playerShip.size(); i++)
+        if (result.isHit())
         {
-            for (int j = 0; j < playerShip.get(i).getShipParts().size(); j++)
-            {
-                if (clickLocation.getRow() == playerShip.get(i).getShipParts().get(j).getLocation().getRow() && 
-                    clickLocation.getCol() == playerShip.get(i).getShipParts().get(j).getLocation().getCol())
-                {
-                	// Show message and graphics for shot HIT
-                    hitOrMissIcon.setImage(6);
-                    hitShip = true;
-                    setGraphics(1, sleepTimer, hitOrMissIcon, playerShip, compPlayer);
-                    
-                    // adds hit to individual ship
-                    playerShip.get(i).setHitCount();
-                
-                    return true;
-                }
-            }
+        	// Show message and graphics for shot HIT
+            hitOrMissIcon.setImage(6);
+            hitShip = true;
+            
+            // adds hit to individual ship
+            struckShip.setHitCount();
+            
+            setGraphics(1, sleepTimer, hitOrMissIcon, struckShip, compPlayer);
+            return true;
         }
         
         // Show message and graphics for shot MISS
         hitOrMissIcon.setImage(7);
-        setGraphics(2, sleepTimer, hitOrMissIcon, playerShip, compPlayer);
+        setGraphics(2, sleepTimer, hitOrMissIcon, null, compPlayer);
         
         // prompt computer to check other side of ship & cardinal directions if fails to hit
         // change back if does not work: playerNum == 2 && compPlayer != null && compPlayer.getHitLocCurrent() != null
@@ -408,26 +407,21 @@ public class BattleshipWorld extends ActorWorld
     }
     
     /**
-     * Checks the status of all Battleships to see if they are alive.
-     * @param shipList a list of the opponent's Battleships
+     * Checks the status of the Battleship that was just hit to see if it is still alive.
+     * @param struckShip the opponent's Battleship that was hit
      * @param compPlayer the Computer Player
      */ 
-    public void shipStatus(ArrayList<Battleship> shipList, Computer compPlayer) 
+    public void shipStatus(Battleship struckShip, Computer compPlayer) 
     {
-        for(int i = 0; i < shipList.size(); i++)
+        if (struckShip.shipSunk())
         {
-            if (shipList.get(i).shipSunk())
+        	setMessage("Player " + playerNum + "\nYou sunk their " + struckShip.getShipName() + "!");
+            struckShip.buildBrokenShip(this);
+            
+            // the Computer's targeting strategy is told about the sinking by Game
+            if (compPlayer != null && playerNum == 2)
             {
-            	setMessage("Player " + playerNum + "\nYou sunk their " + shipList.get(i).getShipName() + "!");
-                shipList.get(i).buildBrokenShip(this);
-                
-                // stops Computer from looking for ship if destroyed
-                if (compPlayer != null && playerNum == 2)
-                {
-                    hitShip = false;
-                    compPlayer.setHitLocBase(null);
-                    compPlayer.setHitLocCurrent(null);
-                }
+                hitShip = false;
             }
         }
     }
@@ -437,10 +431,10 @@ public class BattleshipWorld extends ActorWorld
      * @param messageType controls which graphics are updated by function
      * @param sleepTimer the length of time the program will pause (in milliseconds)
      * @param hitOrMissIcon the hit or missed BattleshipPart object
-     * @param playerShip a list of the opponent's Battleships
+     * @param struckShip the opponent's Battleship that was hit, or null if the shot missed
      * @param compPlayer the Computer Player
      */ 
-    public void setGraphics(int messageType, int sleepTimer, BattleshipPart hitOrMissIcon, ArrayList<Battleship> playerShip, Computer compPlayer)
+    public void setGraphics(int messageType, int sleepTimer, BattleshipPart hitOrMissIcon, Battleship struckShip, Computer compPlayer)
     {
     	// setup hit messages
     	String playerName = "Player " + playerNum;
@@ -477,16 +471,16 @@ public class BattleshipWorld extends ActorWorld
     	    	{
     	    		case 1: setMessage(message2);
     	    				add(clickLocation, hitOrMissIcon);
-    	    				setGraphics(3, 1000, hitOrMissIcon, playerShip, compPlayer);
+    	    				setGraphics(3, 1000, hitOrMissIcon, struckShip, compPlayer);
     	    				break;
     	    		
     	    		case 2: setMessage(message3);
     	    				add(clickLocation, hitOrMissIcon);
-    	    				setGraphics(4, 2000, hitOrMissIcon, playerShip, compPlayer);
+    	    				setGraphics(4, 2000, hitOrMissIcon, struckShip, compPlayer);
     	    				break;
     	    	
-    	    		case 3: shipStatus(playerShip, compPlayer);
-    	    				setGraphics(4, 1000, hitOrMissIcon, playerShip, compPlayer);
+    	    		case 3: shipStatus(struckShip, compPlayer);
+    	    				setGraphics(4, 1000, hitOrMissIcon, struckShip, compPlayer);
     	    				break; 
     	    	
     	    		// Setup next turn
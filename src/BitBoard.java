@@ -0,0 +1,301 @@
+/**
+ * A set of squares on a rectangular board stored one bit per square in an array of longs.  Squares are
+ * numbered in row-major order (row * cols + col), so a 10x10 board fits in two longs.  None of the
+ * methods allocate, which keeps shot resolution garbage free.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class BitBoard
+{
+    private int rows;
+    private int cols;
+    private long[] words;
+
+    /**
+     * Constructs an empty board of the given size.
+     * @param rowsInput number of rows on the board
+     * @param colsInput number of columns on the board
+     */
+    public BitBoard(int rowsInput, int colsInput)
+    {
+        if (rowsInput <= 0)
+            throw new IllegalArgumentException("rows <= 0");
+        if (colsInput <= 0)
+            throw new IllegalArgumentException("cols <= 0");
+
+        rows = rowsInput;
+        cols = colsInput;
+        words = new long[(rows * cols + 63) >>> 6];
+    }
+
+    /**
+     * Gets the number of rows on the board.
+     * @return the number of rows
+     */
+    public int getNumRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns on the board.
+     * @return the number of columns
+     */
+    public int getNumCols()
+    {
+        return cols;
+    }
+
+    /**
+     * Gets the number of squares on the board.
+     * @return rows * cols
+     */
+    public int getCellCount()
+    {
+        return rows * cols;
+    }
+
+    /**
+     * Gets the number of the square at a given row and column.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return the row-major number of the square
+     */
+    public int cellOf(int row, int col)
+    {
+        return row * cols + col;
+    }
+
+    /**
+     * Checks whether a square is in the set.
+     * @param cell the row-major number of the square
+     * @return true if the square is set, false if it is not
+     */
+    public boolean get(int cell)
+    {
+        return (words[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Checks whether a square is in the set.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return true if the square is set, false if it is not
+     */
+    public boolean get(int row, int col)
+    {
+        return get(row * cols + col);
+    }
+
+    /**
+     * Adds a square to the set.
+     * @param cell the row-major number of the square
+     */
+    public void set(int cell)
+    {
+        words[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Adds a square to the set.
+     * @param row the row of the square
+     * @param col the column of the square
+     */
+    public void set(int row, int col)
+    {
+        set(row * cols + col);
+    }
+
+    /**
+     * Removes a square from the set.
+     * @param cell the row-major number of the square
+     */
+    public void clear(int cell)
+    {
+        words[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * Removes every square from the set.
+     */
+    public void clearAll()
+    {
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] = 0;
+        }
+    }
+
+    /**
+     * Checks whether the set is empty.
+     * @return true if no square is set, false if at least one is
+     */
+    public boolean isEmpty()
+    {
+        for (int i = 0; i < words.length; i++)
+        {
+            if (words[i] != 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the squares in the set.
+     * @return the number of set squares
+     */
+    public int cardinality()
+    {
+        int count = 0;
+        for (int i = 0; i < words.length; i++)
+        {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the squares that are in both this set and another board of the same size.
+     * @param other the other board
+     * @return the number of squares set in both boards
+     */
+    public int countAnd(BitBoard other)
+    {
+        int count = 0;
+        for (int i = 0; i < words.length; i++)
+        {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether this set shares a square with another board of the same size.
+     * @param other the other board
+     * @return true if a square is set in both boards, false if none is
+     */
+    public boolean intersects(BitBoard other)
+    {
+        for (int i = 0; i < words.length; i++)
+        {
+            if ((words[i] & other.words[i]) != 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds every square of another board of the same size to this set.
+     * @param other the other board
+     */
+    public void or(BitBoard other)
+    {
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Keeps only the squares that are also set in another board of the same size.
+     * @param other the other board
+     */
+    public void and(BitBoard other)
+    {
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Removes every square that is set in another board of the same size.
+     * @param other the other board
+     */
+    public void andNot(BitBoard other)
+    {
+        for (int i = 0; i < words.length; i++)
+        {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Makes this set a copy of another board of the same size.
+     * @param other the board to copy
+     */
+    public void copyFrom(BitBoard other)
+    {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Finds the first set square at or after a given square.
+     * @param fromCell the row-major number to start searching from
+     * @return the number of the next set square, or -1 if there is none
+     */
+    public int nextSetBit(int fromCell)
+    {
+        if (fromCell >= rows * cols)
+        {
+            return -1;
+        }
+
+        int index = fromCell >>> 6;
+        long word = words[index] & (-1L << fromCell);
+        while (true)
+        {
+            if (word != 0)
+            {
+                int cell = (index << 6) + Long.numberOfTrailingZeros(word);
+                return cell < rows * cols ? cell : -1;
+            }
+            index++;
+            if (index == words.length)
+            {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    /**
+     * Gets the number of longs backing the board.
+     * @return the number of words
+     */
+    public int getWordCount()
+    {
+        return words.length;
+    }
+
+    /**
+     * Gets one of the longs backing the board.  Bit b of word w is square w * 64 + b.
+     * @param index the index of the word
+     * @return the word
+     */
+    public long getWord(int index)
+    {
+        return words[index];
+    }
+
+    /**
+     * Replaces one of the longs backing the board.
+     * @param index the index of the word
+     * @param word the new bits for squares index * 64 through index * 64 + 63
+     */
+    public void setWord(int index, long word)
+    {
+        // squares past the end of the board always stay clear
+        int extra = (index + 1) * 64 - rows * cols;
+        if (extra > 0)
+        {
+            word &= -1L >>> extra;
+        }
+        words[index] = word;
+    }
+}
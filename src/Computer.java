@@ -1,11 +1,5 @@
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.Scanner;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 import gridworld.grid.BoundedGrid;
 import gridworld.grid.Location;
@@ -13,37 +7,116 @@ import gridworld.grid.Location;
 import gridworld.actor.Actor;
 
 /**
- * Sets up computer's battleship locations and sets how to pick ships on their turn
+ * Sets up computer's battleship locations and sets how to pick ships on their turn.  Where the Computer
+ * places its fleet and where it fires are decided by a PlacementStrategy and a TargetingStrategy, which
+ * can be swapped per game.
  * 
  * @author Phillip Sturtevant 
- * @version 09/14/2017
+ * @version 10/18/2026
  */
 public class Computer
 {
     private ArrayList<Location> compLocations;
     private ArrayList<Battleship> compShips;
-    private Location hitLocBase;   // first hit location on current targeted battleship
-    private Location hitLocCurrent; // the Computer's second/third/etc. location on the current Battleship target
+    private TargetingStrategy targeting;
+    private PlacementStrategy placement;
+    private SplittableRandom random;
+    private long seed;
     private int shipQuantity;
+    private int rows;
+    private int cols;
     
     /**
      * Constructs a Computer with 3 default ships.
      */
     public Computer()
     {
-        shipQuantity = 3;
-        hitLocBase = null;
+        this(3);
     }
     
     /**
-     * Constructs a Computer with a given number of battleships
+     * Constructs a Computer with a given number of battleships that places its fleet at random and fires
+     * the original way.
      * @param quantityInput Input quantity of ships declared in main menu.
      */
     public Computer(int quantityInput)
     {
+        this(quantityInput, new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Constructs a Computer with a given number of battleships that places its fleet at random and fires
+     * the original way, making the same choices every time it is given the same seed.
+     * @param quantityInput Input quantity of ships declared in main menu.
+     * @param seedInput seed for the Computer's random number generator
+     */
+    public Computer(int quantityInput, long seedInput)
+    {
+        this(quantityInput, 10, seedInput);
+    }
+    
+    /**
+     * Constructs a Computer with a given number of battleships on a square board of a given size that
+     * places its fleet at random and fires the original way, making the same choices every time it is
+     * given the same seed.
+     * @param quantityInput Input quantity of ships declared in main menu.
+     * @param boardSizeInput number of rows and columns of the board declared in main menu
+     * @param seedInput seed for the Computer's random number generator
+     */
+    public Computer(int quantityInput, int boardSizeInput, long seedInput)
+    {
+        this(quantityInput, boardSizeInput, boardSizeInput, new HuntTargeting(), new RandomPlacement(), seedInput);
+    }
+    
+    /**
+     * Constructs a Computer with a given number of battleships and the strategies it plays with.
+     * @param quantityInput Input quantity of ships declared in main menu.
+     * @param targetingInput decides where the Computer fires
+     * @param placementInput decides where the Computer places its fleet
+     */
+    public Computer(int quantityInput, TargetingStrategy targetingInput, PlacementStrategy placementInput)
+    {
+        this(quantityInput, targetingInput, placementInput, new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Constructs a Computer with a given number of battleships, the strategies it plays with, and the
+     * seed of its random number generator.  Placement and targeting draw from separate streams split
+     * from the seed, so changing one strategy does not change the other's choices.
+     * @param quantityInput Input quantity of ships declared in main menu.
+     * @param targetingInput decides where the Computer fires
+     * @param placementInput decides where the Computer places its fleet
+     * @param seedInput seed for the Computer's random number generator
+     */
+    public Computer(int quantityInput, TargetingStrategy targetingInput, PlacementStrategy placementInput,
+                    long seedInput)
+    {
+        this(quantityInput, 10, 10, targetingInput, placementInput, seedInput);
+    }
+    
+    /**
+     * Constructs a Computer with a given number of battleships on a board of a given size, the strategies
+     * it plays with, and the seed of its random number generator.
+     * @param quantityInput Input quantity of ships declared in main menu.
+     * @param rowsInput number of rows of the board
+     * @param colsInput number of columns of the board
+     * @param targetingInput decides where the Computer fires
+     * @param placementInput decides where the Computer places its fleet
+     * @param seedInput seed for the Computer's random number generator
+     */
+    public Computer(int quantityInput, int rowsInput, int colsInput, TargetingStrategy targetingInput,
+                    PlacementStrategy placementInput, long seedInput)
+    {
+        rows = rowsInput;
+        cols = colsInput;
         compLocations = new ArrayList<Location>();
         compShips = new ArrayList<Battleship>();
         shipQuantity = quantityInput;
+        targeting = targetingInput;
+        placement = placementInput;
+        seed = seedInput;
+        random = new SplittableRandom(seed);
+        targeting.newGame(rows, cols, Fleet.classic(shipQuantity), random.split());
     }
     
     /**
@@ -65,79 +138,39 @@ public class Computer
     }
     
     /**
-     * Gets the Computer's second/third/etc. location on the current Battleship target.
-     * @return the Computer's second/third/etc. location on the current Battleship target
+     * Gets the strategy deciding where the Computer fires.
+     * @return the Computer's targeting strategy
      */
-    public Location getHitLocCurrent()
+    public TargetingStrategy getTargeting()
     {
-        return hitLocCurrent;
+        return targeting;
     }
     
     /**
-     * Sets the computer's first hit location on a battleship.
-     * @param hitLocation Hit location detected from BattleshipWorld click.
+     * Gets the seed the Computer's choices are drawn from.
+     * @return the seed of the Computer's random number generator
      */
-    public void setHitLocBase(Location hitLocation)
+    public long getSeed()
     {
-        hitLocBase = hitLocation;
+        return seed;
     }
     
     /**
-     * Sets the second/third/etc location on the current battleship target.
-     * @param hitLocation Hit location detected from BattleshipWorld click.
-     */
-    public void setHitLocCurrent(Location hitLocation)
-    {
-        hitLocCurrent = hitLocation;
-    }
-    
-    /**
-     * Computer chooses which set-up of ships it will pick from the external file of ship locations.
-     * @throws IOException 
+     * Computer places its fleet with its placement strategy and records the location of every ship part.
      */
     public void pickSetup()
-           throws IOException
     {
-    	// 
-    	BufferedReader inputStream;
-        int locationNum = 0;
-    	
-        if (shipQuantity == 3)
-        {
-            inputStream = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/threeshiplocations.txt")));
-            locationNum = 12;
-        }
-        else if (shipQuantity == 4)
-        {
-            inputStream = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/fourshiplocations.txt")));
-            locationNum = 15;
-        }
-        else
-        {
-            inputStream = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/fiveshiplocations.txt")));
-            locationNum = 17;
-        }
-        
-        // how many lines to read before recording values to location ArrayList
-        int readBegin = randChoice(2) * 2;
-        for(int i = 0; i < readBegin; i++)
-        {
-        	inputStream.readLine();
-        }
+        OceanBoard layout = new OceanBoard(rows, cols, Fleet.classic(shipQuantity));
+        placement.placeFleet(layout, random);
         
-        // Begin reading values into ArrayList
-        for (int i = 0; i < locationNum; i++)
+        for (int i = 0; i < shipQuantity; i++)
         {
-        	// read ASCII and change to integer
-        	int row = inputStream.read() - 48;
-        	inputStream.skip(2);   // skip 2 spaces
-        	int col = inputStream.read() - 48;
-        	inputStream.skip(3);   // skip 3 spaces
-            
-            Location temp = new Location(row, col);
-            compLocations.add(temp);
+            ShipPlacement ship = layout.getShip(i);
+            for (int j = 0; j < ship.getSize(); j++)
+            {
+                compLocations.add(Location.of(ship.getSegmentRow(j), ship.getSegmentCol(j)));
+            }
         }
-        inputStream.close();
     }
     
     /**
@@ -150,10 +183,11 @@ public class Computer
         int shipSize = 0;
         int shipLoc = 0;
         
+        // one scratch world holds the parts of every ship, each added straight to its location
+        BattleshipWorld tempWorld = new BattleshipWorld(new BoundedGrid<Actor>(rows, cols), 3);
+        
         for (int i = 0; i < shipQuantity; i++)
         {
-            BattleshipWorld tempWorld = new BattleshipWorld(new BoundedGrid<Actor>(10, 10), 3);
-            
             // Setting correct ship size
             if (i == 0)
             {
@@ -192,8 +226,7 @@ public class Computer
             for(int j = shipLoc; j < shipSize; j++)
             {
                 BattleshipPart tempPart = new BattleshipPart();
-                tempWorld.add(tempPart);
-                tempPart.moveTo(compLocations.get(j));
+                tempWorld.add(compLocations.get(j), tempPart);
                 tempShip.setShipParts(tempPart);
             }
             compShips.add(tempShip);
@@ -203,250 +236,28 @@ public class Computer
     }
     
     /**
-     * Randomly guesses a click location.  If a location is hit, guesses near that location until
-     * the battleship is sunk.
+     * Asks the targeting strategy for the Computer's next shot and sets it as the world's click location.
      * @param playerWorld the play world of the Computer
-     * @param clickLocations previous Computer click locations
      * @return returns the location guessed by the Computer
      */
-    public Location takeTurn(BattleshipWorld playerWorld, ArrayList<Location> clickLocations)
+    public Location takeTurn(BattleshipWorld playerWorld)
     {
-    	Location guessLoc = null;   // guess click location of the Computer
-    	
-    	// setting new hit location if hit previous turn
-        if (hitLocBase == null && playerWorld.getHitShip())
-        {
-            hitLocBase = clickLocations.get(clickLocations.size() - 1);
-        }
-        else if (hitLocBase != null && playerWorld.getHitShip())   // extending for computer to guess off of
-        {
-            hitLocCurrent = clickLocations.get(clickLocations.size() - 1);
-        }
-    	
-    	if (hitLocBase != null && hitLocCurrent == null)   // Clicks one of the cardinal directions from hit
-        {
-            guessLoc = cardinalClick(playerWorld, clickLocations);
-        }
-        else if (playerWorld.getHitShip() && hitLocCurrent != null)  // pattern guess in line after second part is found
-        {
-            guessLoc = patternLocCheck(playerWorld, clickLocations);
-            
-            if(guessLoc == null)   // If hit the world boundary, jump to the last pattern guess
-            {
-                guessLoc = compareHitLoc(playerWorld, clickLocations);
-            }
-        }
-        else if (!playerWorld.getHitShip() && hitLocCurrent != null) // If reached world boundary/end of ship, checks the other side of original hit
-        {
-            guessLoc = compareHitLoc(playerWorld, clickLocations);
-        }
-        
-    	// Computer sets guess to world to setup hit/miss image
-        if (guessLoc != null)   // educated guess
-        {
-        	playerWorld.setClickLocation(guessLoc);
-        }
-        else    // random guess
-        {
-        	guessLoc = playerWorld.getRandomEmptyLocation();
-            playerWorld.setClickLocation(guessLoc);
-        }
+        int cell = targeting.nextShot();
+        Location guessLoc = Location.of(cell / cols, cell % cols);
         
+        // Computer sets guess to world to setup hit/miss image
+        playerWorld.setClickLocation(guessLoc);
         return guessLoc;
     }
     
     /**
-     * Computer randomly selects a cardinal direction away from first Battleship hit location.
-     * @param player the Computer's play area
-     * @param clickLocations an array of the Computer's previous click locations
-     * @return the location of the next place the Computer will guess
-     */ 
-    public Location cardinalClick(BattleshipWorld player, ArrayList<Location> clickLocations)
-    {
-        int row = 0;
-        int col = 0;
-        int randDirection = 0;
-        boolean north = true;
-        boolean east = true;
-        boolean south = true;
-        boolean west = true;
-        boolean validLoc = false;
-                
-        // Checks for a valid location to click around found battleship
-        while ((north || east || south || west ) && !validLoc)
-        {
-            // gets last row and column clicked and resets row and column for re-check
-            row = hitLocBase.getRow();
-            col = hitLocBase.getCol();
-            
-            // sets a random direction to check
-            randDirection = randChoice(4);
-               
-            if (randDirection == 0 && north)
-            {
-                row--;
-                north = false;
-            }
-            else if (randDirection == 1 && east)
-            {
-                col++;
-                east = false;
-            }
-            else if (randDirection == 2  && south)
-            {
-                row++;
-                south = false;
-            }
-            else if (randDirection == 3 && west)
-            {
-                col--;
-                west = false;
-            }
-            
-            // Checks if computer click is out of bounds
-            if (row >= 0 && row < 10 && col >= 0 && col < 10)
-            {
-                validLoc = true;
-            }
-            else
-            {
-                validLoc = false;
-            }
-            
-            // Checks if computer click has already been selected
-            for (int i = 0; i < clickLocations.size(); i++)
-            {
-                if (row == clickLocations.get(i).getRow() && col == clickLocations.get(i).getCol())
-                {
-                    validLoc = false;
-                }
-            }
-        }
-        
-        if (validLoc)
-        {
-            return new Location(row, col);
-        }
-        else      // should not be reached, but backup in case something unexpected happens
-        {
-            player.setHitShip(false);
-            System.out.println("Something went wrong in method: cardinalClick");
-            return null;
-        }
-    }
-    
-    /**
-     * Computer checks for second/third/etc. Battleship part on same Battleship target.
-     * @param player the Computer's play area
-     * @param clickLocations previous Computer click locations
-     * @return the location of the next place the Computer will guess
-     */ 
-    public Location patternLocCheck(BattleshipWorld player, ArrayList<Location> clickLocations)
-    {
-        Location tempLoc;     // setting temporary location to return at end
-        
-        // first checks if ship is vertical
-        if (hitLocCurrent.getRow() > hitLocBase.getRow() || hitLocCurrent.getRow() < hitLocBase.getRow())
-        {
-            if (hitLocCurrent.getRow() > hitLocBase.getRow())
-            {
-                tempLoc = new Location((hitLocCurrent.getRow() + 1), hitLocCurrent.getCol());
-            }
-            else
-            {
-                tempLoc = new Location((hitLocCurrent.getRow() - 1), hitLocCurrent.getCol());
-            }
-        }
-        else     // performs if ship is horizontal
-        {
-            if (hitLocCurrent.getCol() > hitLocBase.getCol())
-            {
-                tempLoc = new Location(hitLocCurrent.getRow(), (hitLocCurrent.getCol() + 1));
-            }
-            else
-            {
-                tempLoc = new Location(hitLocCurrent.getRow(), (hitLocCurrent.getCol() - 1));
-            }
-        }
-        
-        // making sure guess does not go out of bounds
-        if (tempLoc.getRow() < 0 || tempLoc.getRow() > 9 || tempLoc.getCol() < 0 || tempLoc.getCol() > 9)
-        {
-            return null;
-        }
-        
-        // make sure computer does not guess already guessed location
-        for (int i = 0; i < clickLocations.size(); i++)
-        {
-        	if (tempLoc.getRow() == clickLocations.get(i).getRow() && tempLoc.getCol() == clickLocations.get(i).getCol())
-        	{
-        		return null;
-        	}
-        }
-        
-        return tempLoc;
-    }
-    
-    /**
-     * Computer checks opposite side of hitLocBase for remainder of ship to destroy.
-     * @param player the Computer's play area
-     * @param clickLocations previous Computer click locations
-     * @return the location of the next place the Computer will guess 
-     */ 
-    public Location compareHitLoc(BattleshipWorld player, ArrayList<Location> clickLocations)
-    {
-        Location tempLoc;     // setting temporary location to return at end
-        
-        if (hitLocBase.getRow() > hitLocCurrent.getRow() || hitLocBase.getRow() < hitLocCurrent.getRow())
-        {
-            if (hitLocBase.getRow() > hitLocCurrent.getRow())
-            {
-                tempLoc = new Location((hitLocBase.getRow() + 1), hitLocBase.getCol());
-            }
-            else
-            {
-                tempLoc = new Location((hitLocBase.getRow() - 1), hitLocBase.getCol());
-            }
-        }
-        else
-        {
-            if (hitLocBase.getCol() > hitLocCurrent.getCol())
-            {
-                tempLoc = new Location(hitLocBase.getRow(), (hitLocBase.getCol() + 1));
-            }
-            else
-            {
-                tempLoc = new Location(hitLocBase.getRow(), (hitLocBase.getCol() - 1));
-            }
-        }
-        
-        // making sure guess does not go out of bounds
-        if (tempLoc.getRow() < 0 || tempLoc.getRow() >= 10 || tempLoc.getCol() < 0 || tempLoc.getCol() >= 10)
-        {
-            player.setHitShip(false);
-            return null;
-        }
-        
-        // make sure computer does not guess already guessed location
-        for (int i = 0; i < clickLocations.size(); i++)
-        {
-        	if (tempLoc.getRow() == clickLocations.get(i).getRow() && tempLoc.getCol() == clickLocations.get(i).getCol())
-        	{
-        		return null;
-        	}
-        }
-        
-        return tempLoc;
-    }
-    
-    /**
-     * Creates a random number within the given range starting from 0.
-     * @param range a selected range of values to pick from
-     * @return the random integer between the given range
-     */ 
-    public int randChoice(int range)
+     * Tells the targeting strategy the outcome of the Computer's last shot.
+     * @param shotLoc the location the Computer fired on
+     * @param result whether the shot missed, hit, or sunk a Battleship
+     * @param sunkShip the placement of the sunk Battleship, or null if no Battleship was sunk
+     */
+    public void shotResolved(Location shotLoc, ShotResult result, ShipPlacement sunkShip)
     {
-        // Give a random number from the range
-        return (int)(range*Math.random());
+        targeting.shotResolved(shotLoc.getRow() * cols + shotLoc.getCol(), result, sunkShip);
     }
 }
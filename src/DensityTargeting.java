@@ -0,0 +1,436 @@
+import java.util.SplittableRandom;
+
+/**
+ * A targeting AI that fires at the square most likely to hold a ship.  For every square it keeps a count
+ * of the ways the opponent's remaining ships could be placed over it without touching a miss or a sunk
+ * ship, and a second count of the placements that would also explain the hits not yet tied to a sunk
+ * ship.  It hunts on the first count and finishes wounded ships on the second.
+ * <p>
+ * Placements are numbered arithmetically by size, orientation and starting square, so the placements
+ * covering a square are found without storing them.  Each shot only visits the placements that cover
+ * the square fired on (and, when a ship sinks, the placements of that ship's size), so the counts are
+ * updated incrementally rather than recomputed.  The squares are split into blocks of about the square
+ * root of the board size, each caching its best square; picking a move only rescans the blocks whose
+ * counts changed, so a shot costs far less than a pass over a large board.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class DensityTargeting implements TargetingStrategy
+{
+    // board geometry, rebuilt only when the board or ship sizes change
+    private int rows;
+    private int cols;
+    private int cellCount;
+    private int maxSize;
+    private int[] sizeFirst;         // placements of size L are sizeFirst[L] .. sizeFirst[L + 1] - 1, horizontal first
+    private int[] verticalFirst;     // first vertical placement of size L
+    private int blockShift;          // squares are grouped in blocks of 1 << blockShift
+    private int blockCount;
+
+    // game state
+    private int[] shipsLeft;         // ships still afloat, per size
+    private boolean[] blocked;       // placement touches a miss or a sunk ship
+    private int[] hitsCovered;       // unresolved hits inside each placement
+    private int[] density;           // weighted placements over each square
+    private int[] targetDensity;     // weighted placements over each square that explain a hit
+    private BitBoard fired;
+    private int unresolvedHits;
+    private SplittableRandom random;
+
+    // best square of each block, while hunting [0] and while finishing a wounded ship [1]
+    private long[][] blockBest;
+    private int[][] blockTies;
+    private boolean[][] blockDirty;
+
+    public void newGame(int rowsInput, int colsInput, Fleet fleet, SplittableRandom randomInput)
+    {
+        random = randomInput;
+
+        int fleetMax = 0;
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            fleetMax = Math.max(fleetMax, fleet.getSize(i));
+        }
+
+        if (sizeFirst == null || rowsInput != rows || colsInput != cols || fleetMax > maxSize)
+        {
+            buildPlacements(rowsInput, colsInput, fleetMax);
+        }
+
+        shipsLeft = new int[maxSize + 1];
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            shipsLeft[fleet.getSize(i)]++;
+        }
+
+        for (int p = 0; p < blocked.length; p++)
+        {
+            blocked[p] = false;
+            hitsCovered[p] = 0;
+        }
+        for (int cell = 0; cell < cellCount; cell++)
+        {
+            density[cell] = 0;
+            targetDensity[cell] = 0;
+        }
+        for (int size = 1; size <= maxSize; size++)
+        {
+            reweightSize(size, shipsLeft[size]);
+        }
+
+        fired.clearAll();
+        unresolvedHits = 0;
+        for (int mode = 0; mode < 2; mode++)
+        {
+            for (int b = 0; b < blockCount; b++)
+            {
+                blockDirty[mode][b] = true;
+            }
+        }
+    }
+
+    /**
+     * Picks the unfired square with the highest count, breaking ties at random.  While a hit is not yet
+     * explained by a sunk ship, squares are ranked by the placements through that hit first.
+     * @return the row-major number of the square to fire on, or -1 if every square was fired on
+     */
+    public int nextShot()
+    {
+        int mode = (unresolvedHits > 0) ? 1 : 0;
+        long[] best = blockBest[mode];
+        int[] ties = blockTies[mode];
+        boolean[] dirty = blockDirty[mode];
+
+        // find the best block, choosing between tied blocks in proportion to their tied squares
+        int bestBlock = -1;
+        long bestScore = -1;
+        int totalTies = 0;
+        for (int b = 0; b < blockCount; b++)
+        {
+            if (dirty[b])
+            {
+                rescanBlock(mode, b);
+                dirty[b] = false;
+            }
+
+            if (best[b] > bestScore)
+            {
+                bestBlock = b;
+                bestScore = best[b];
+                totalTies = ties[b];
+            }
+            else if (best[b] == bestScore && bestScore >= 0)
+            {
+                totalTies += ties[b];
+                if (random.nextInt(totalTies) < ties[b])
+                {
+                    bestBlock = b;
+                }
+            }
+        }
+        if (bestBlock < 0)
+        {
+            return -1;
+        }
+
+        // then pick one of the block's tied squares
+        int skip = random.nextInt(ties[bestBlock]);
+        int end = Math.min(cellCount, (bestBlock + 1) << blockShift);
+        for (int cell = bestBlock << blockShift; cell < end; cell++)
+        {
+            if (!fired.get(cell) && score(mode, cell) == bestScore)
+            {
+                if (skip == 0)
+                {
+                    return cell;
+                }
+                skip--;
+            }
+        }
+        return -1;
+    }
+
+    public void shotResolved(int cell, ShotResult result, ShipPlacement sunkShip)
+    {
+        fired.set(cell);
+        markDirty(cell);
+
+        if (!result.isHit())
+        {
+            updateCovering(cell, false);
+            return;
+        }
+
+        // a hit makes every placement through this square explain one more hit
+        unresolvedHits++;
+        updateCovering(cell, true);
+
+        if (result == ShotResult.SUNK && sunkShip != null)
+        {
+            // one fewer ship of this size is left to place
+            int size = sunkShip.getSize();
+            reweightSize(size, -1);
+            shipsLeft[size]--;
+
+            // the wreck is resolved: nothing else can be placed over it
+            for (int i = 0; i < size; i++)
+            {
+                unresolvedHits--;
+                updateCovering(sunkShip.getSegmentRow(i) * cols + sunkShip.getSegmentCol(i), false);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of placements of the remaining ships that cover a square.
+     * @param cell the row-major number of the square
+     * @return the placement count for the square
+     */
+    public int getDensity(int cell)
+    {
+        return density[cell];
+    }
+
+    /**
+     * Ranks a square.  While finishing a wounded ship, placements through the hits come first.
+     * @param mode 0 while hunting, 1 while a hit is unresolved
+     * @param cell the row-major number of the square
+     * @return the score of the square
+     */
+    private long score(int mode, int cell)
+    {
+        if (mode == 0)
+        {
+            return density[cell];
+        }
+        return ((long) targetDensity[cell] << 32) + density[cell];
+    }
+
+    /**
+     * Finds the best score among a block's unfired squares and how many squares share it.
+     * @param mode 0 while hunting, 1 while a hit is unresolved
+     * @param b the block
+     */
+    private void rescanBlock(int mode, int b)
+    {
+        long best = -1;
+        int ties = 0;
+        int end = Math.min(cellCount, (b + 1) << blockShift);
+        for (int cell = b << blockShift; cell < end; cell++)
+        {
+            if (fired.get(cell))
+            {
+                continue;
+            }
+
+            long score = score(mode, cell);
+            if (score > best)
+            {
+                best = score;
+                ties = 1;
+            }
+            else if (score == best)
+            {
+                ties++;
+            }
+        }
+        blockBest[mode][b] = best;
+        blockTies[mode][b] = ties;
+    }
+
+    /**
+     * Marks the block holding a square for rescanning in both modes.
+     * @param cell the row-major number of the square
+     */
+    private void markDirty(int cell)
+    {
+        int b = cell >>> blockShift;
+        blockDirty[0][b] = true;
+        blockDirty[1][b] = true;
+    }
+
+    /**
+     * Visits every placement of the remaining ships covering a square.  A hit makes each of them explain
+     * one more hit; a miss or a wreck removes them from the counts.
+     * @param cell the row-major number of the square
+     * @param hit true for a hit, false for a miss or a sunk ship's square
+     */
+    private void updateCovering(int cell, boolean hit)
+    {
+        int row = cell / cols;
+        int col = cell % cols;
+
+        for (int size = 1; size <= maxSize; size++)
+        {
+            if (shipsLeft[size] == 0)   // no ship of this size is left, so its placements no longer count
+            {
+                continue;
+            }
+
+            int horizontalCols = cols - size + 1;
+            for (int i = 0; i < size; i++)
+            {
+                int startCol = col - i;
+                if (startCol >= 0 && startCol < horizontalCols)
+                {
+                    int p = sizeFirst[size] + row * horizontalCols + startCol;
+                    updatePlacement(p, row * cols + startCol, 1, size, hit);
+                }
+            }
+
+            for (int i = 0; size > 1 && i < size; i++)
+            {
+                int startRow = row - i;
+                if (startRow >= 0 && startRow + size <= rows)
+                {
+                    int p = verticalFirst[size] + startRow * cols + col;
+                    updatePlacement(p, startRow * cols + col, cols, size, hit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a hit inside a placement, or removes the placement from the counts.
+     * @param p the placement
+     * @param start its first square
+     * @param step 1 for horizontal, cols for vertical
+     * @param size its length
+     * @param hit true to record a hit, false to remove it
+     */
+    private void updatePlacement(int p, int start, int step, int size, boolean hit)
+    {
+        if (blocked[p])
+        {
+            return;
+        }
+
+        int weight = shipsLeft[size];
+        if (hit)
+        {
+            hitsCovered[p]++;
+            addToCells(targetDensity, start, step, size, weight);
+        }
+        else
+        {
+            blocked[p] = true;
+            addToCells(density, start, step, size, -weight);
+            addToCells(targetDensity, start, step, size, -weight * hitsCovered[p]);
+        }
+    }
+
+    /**
+     * Changes the weight of every open placement of one size in both counts.
+     * @param size the ship size
+     * @param change the change in the number of ships of that size
+     */
+    private void reweightSize(int size, int change)
+    {
+        if (change == 0)
+        {
+            return;
+        }
+
+        int p = sizeFirst[size];
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c + size <= cols; c++, p++)
+            {
+                reweightPlacement(p, r * cols + c, 1, size, change);
+            }
+        }
+        for (int r = 0; size > 1 && r + size <= rows; r++)
+        {
+            for (int c = 0; c < cols; c++, p++)
+            {
+                reweightPlacement(p, r * cols + c, cols, size, change);
+            }
+        }
+    }
+
+    /**
+     * Changes the weight of a placement in both counts unless it is blocked.
+     * @param p the placement
+     * @param start its first square
+     * @param step 1 for horizontal, cols for vertical
+     * @param size its length
+     * @param change the change in weight
+     */
+    private void reweightPlacement(int p, int start, int step, int size, int change)
+    {
+        if (!blocked[p])
+        {
+            addToCells(density, start, step, size, change);
+            addToCells(targetDensity, start, step, size, change * hitsCovered[p]);
+        }
+    }
+
+    /**
+     * Adds an amount to the count of every square of a placement.
+     * @param counts the counts to update
+     * @param start the placement's first square
+     * @param step 1 for horizontal, cols for vertical
+     * @param size the placement's length
+     * @param amount the amount to add
+     */
+    private void addToCells(int[] counts, int start, int step, int size, int amount)
+    {
+        if (amount == 0)
+        {
+            return;
+        }
+
+        for (int i = 0, cell = start; i < size; i++, cell += step)
+        {
+            counts[cell] += amount;
+            markDirty(cell);
+        }
+    }
+
+    /**
+     * Numbers every horizontal and vertical placement of every ship size up to the largest, grouped by
+     * size, and sizes the blocks the squares are split into.
+     * @param rowsInput number of rows in the ocean
+     * @param colsInput number of columns in the ocean
+     * @param largest the largest ship size
+     */
+    private void buildPlacements(int rowsInput, int colsInput, int largest)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        cellCount = rows * cols;
+        maxSize = largest;
+
+        sizeFirst = new int[maxSize + 2];
+        verticalFirst = new int[maxSize + 1];
+        long total = 0;
+        for (int size = 1; size <= maxSize; size++)
+        {
+            sizeFirst[size] = (int) total;
+            total += (long) rows * Math.max(0, cols - size + 1);
+            verticalFirst[size] = (int) total;
+            if (size > 1)   // a single square has only one orientation
+            {
+                total += (long) Math.max(0, rows - size + 1) * cols;
+            }
+            if (total > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("too many placements on a " + rows + "x" + cols + " board");
+        }
+        sizeFirst[maxSize + 1] = (int) total;
+
+        // blocks of about the square root of the board size balance rescanning against the block pass
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, cellCount - 1));
+        blockShift = Math.max(3, (bits + 1) / 2);
+        blockCount = ((cellCount - 1) >>> blockShift) + 1;
+        blockBest = new long[2][blockCount];
+        blockTies = new int[2][blockCount];
+        blockDirty = new boolean[2][blockCount];
+
+        blocked = new boolean[(int) total];
+        hitsCovered = new int[(int) total];
+        density = new int[cellCount];
+        targetDensity = new int[cellCount];
+        fired = new BitBoard(rows, cols);
+    }
+}
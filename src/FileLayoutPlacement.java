@@ -0,0 +1,92 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+
+/**
+ * The Computer's original way of placing its fleet: picks one of the layouts stored in the
+ * threeshiplocations.txt, fourshiplocations.txt and fiveshiplocations.txt resources.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class FileLayoutPlacement implements PlacementStrategy
+{
+    /**
+     * Reads a layout for the ocean's fleet size and places the ships from it.
+     * @param ocean an empty 10x10 ocean holding a classic fleet of 3, 4 or 5 ships
+     * @param random the random number generator for this game
+     */
+    public void placeFleet(OceanBoard ocean, SplittableRandom random)
+    {
+        Fleet fleet = ocean.getFleet();
+        int locationNum = fleet.getTotalSize();
+        int[] rows = new int[locationNum];
+        int[] cols = new int[locationNum];
+
+        try
+        {
+            readLayout(fleet.getShipCount(), random, rows, cols);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        // ships are stored one after another in fleet order
+        int first = 0;
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            int last = first + fleet.getSize(i) - 1;
+            boolean horizontal = rows[first] == rows[last] && last > first;
+            ocean.placeShip(i, Math.min(rows[first], rows[last]), Math.min(cols[first], cols[last]), horizontal);
+            first = last + 1;
+        }
+    }
+
+    /**
+     * Chooses which set-up of ships to pick from the external file of ship locations and reads it.
+     * @param shipQuantity the number of ships in the fleet
+     * @param random the random number generator for this game
+     * @param rows receives the row of every ship part
+     * @param cols receives the column of every ship part
+     * @throws IOException if the file cannot be read
+     */
+    private void readLayout(int shipQuantity, SplittableRandom random, int[] rows, int[] cols)
+            throws IOException
+    {
+        BufferedReader inputStream;
+
+        if (shipQuantity == 3)
+        {
+            inputStream = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/threeshiplocations.txt")));
+        }
+        else if (shipQuantity == 4)
+        {
+            inputStream = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/fourshiplocations.txt")));
+        }
+        else
+        {
+            inputStream = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/fiveshiplocations.txt")));
+        }
+
+        // how many lines to read before recording values to location arrays
+        int readBegin = random.nextInt(2) * 2;
+        for (int i = 0; i < readBegin; i++)
+        {
+            inputStream.readLine();
+        }
+
+        // Begin reading values into arrays
+        for (int i = 0; i < rows.length; i++)
+        {
+            // read ASCII and change to integer
+            rows[i] = inputStream.read() - 48;
+            inputStream.skip(2);   // skip 2 spaces
+            cols[i] = inputStream.read() - 48;
+            inputStream.skip(3);   // skip 3 spaces
+        }
+        inputStream.close();
+    }
+}
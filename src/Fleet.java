@@ -0,0 +1,99 @@
+/**
+ * Describes the Battleships each player places at the start of a game, in the order they are placed.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class Fleet
+{
+    private int[] sizes;
+    private String[] names;
+    private int totalSize;
+
+    /**
+     * Constructs a fleet with the given ship sizes and names.
+     * @param sizesInput the size of each Battleship in placement order
+     * @param namesInput the name of each Battleship in placement order
+     */
+    public Fleet(int[] sizesInput, String[] namesInput)
+    {
+        if (sizesInput.length != namesInput.length)
+        {
+            throw new IllegalArgumentException("sizes and names differ in length");
+        }
+
+        sizes = sizesInput.clone();
+        names = namesInput.clone();
+
+        for (int i = 0; i < sizes.length; i++)
+        {
+            if (sizes[i] <= 0)
+            {
+                throw new IllegalArgumentException("ship size <= 0");
+            }
+            totalSize += sizes[i];
+        }
+    }
+
+    /**
+     * Creates the classic fleet picked from the main menu.  Ships are placed largest first: Carrier,
+     * Battleship, Cruiser, Submarine and Destroyer.
+     * @param quantity the number of ships (3, 4 or 5)
+     * @return the classic fleet with the given number of ships
+     */
+    public static Fleet classic(int quantity)
+    {
+        if (quantity < 1 || quantity > 5)
+        {
+            throw new IllegalArgumentException("quantity must be between 1 and 5");
+        }
+
+        int[] classicSizes = {5, 4, 3, 3, 2};
+        String[] classicNames = {"Carrier", "Battleship", "Cruiser", "Submarine", "Destroyer"};
+
+        int[] fleetSizes = new int[quantity];
+        String[] fleetNames = new String[quantity];
+        System.arraycopy(classicSizes, 0, fleetSizes, 0, quantity);
+        System.arraycopy(classicNames, 0, fleetNames, 0, quantity);
+
+        return new Fleet(fleetSizes, fleetNames);
+    }
+
+    /**
+     * Gets the number of Battleships in the fleet.
+     * @return the number of Battleships
+     */
+    public int getShipCount()
+    {
+        return sizes.length;
+    }
+
+    /**
+     * Gets the size of a Battleship in the fleet.
+     * @param ship the index of the Battleship in placement order
+     * @return the size of the Battleship
+     */
+    public int getSize(int ship)
+    {
+        return sizes[ship];
+    }
+
+    /**
+     * Gets the name of a Battleship in the fleet.
+     * @param ship the index of the Battleship in placement order
+     * @return the name of the Battleship
+     */
+    public String getName(int ship)
+    {
+        return names[ship];
+    }
+
+    /**
+     * Gets the number of segments across every Battleship in the fleet.
+     * @return the total size of the fleet
+     */
+    public int getTotalSize()
+    {
+        return totalSize;
+    }
+}
@@ -1,8 +1,10 @@
 import java.awt.Dimension;
 import java.awt.Toolkit;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 import gridworld.grid.Location;
 import gridworld.grid.BoundedGrid;
@@ -20,12 +22,13 @@ import javax.swing.JOptionPane;
  */
 public class Game 
 {
-	// Initializing score window, scores, and menu
-	private ScoreMenu scoreWindow = new ScoreMenu();
-	private int score1 = 0;
-    private int score2 = 0;
+	// Initializing score window and menu
+	private ScoreMenu scoreWindow = new ScoreMenu(this);
 	private MainMenu menu;
 	
+	// Rules of the game (shots, scores, turns and winner) run headless in the engine
+	private GameEngine engine;
+	
 	// screen resolution variables
 	Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
 	
@@ -35,11 +38,7 @@ public class Game
 	private ArrayList<Location> player1Locations = new ArrayList<Location>();
 	private ArrayList<Location> player2Locations = new ArrayList<Location>();
     
-    // Creating ArrayLists to hold the Player's clicks
-	private ArrayList<Location> player1Clicks = new ArrayList<Location>();
-	private ArrayList<Location> player2Clicks = new ArrayList<Location>();
-    
-    // Creating the playable worlds
+    // Creating the playable worlds (resized to the board size chosen in the menu when the game starts)
 	private BattleshipWorld player1World = new BattleshipWorld(new BoundedGrid<Actor>(10, 10), 1, this);
 	private BattleshipWorld player2World = new BattleshipWorld(new BoundedGrid<Actor>(10, 10), 2, this);
     
@@ -47,16 +46,43 @@ public class Game
 	private Computer compPlayer;
 	private String player2Name;
 	
-	// toggle between Player 1 and Player 2 turn
-	private boolean player1Turn = true;
+	// every random choice in the game is drawn from generators split from this seed
+	private long seed;
+	private long computerSeed;
 	
 	/**
 	 * Constructs a new game with the saved data selected from the main menu
 	 * @param menuInput main menu of the game
 	 */
 	public Game(MainMenu menuInput)
+	{
+		this(menuInput, new SplittableRandom().nextLong());
+	}
+	
+	/**
+	 * Constructs a new game with the saved data selected from the main menu.  The same seed
+	 * replays the same Computer choices.
+	 * @param menuInput main menu of the game
+	 * @param seedInput seed of the game's random number generators
+	 */
+	public Game(MainMenu menuInput, long seedInput)
 	{
 		menu = menuInput;
+		setSeed(seedInput);
+	}
+	
+	/**
+	 * Sets the seed every random choice in this game is drawn from.
+	 * @param seedInput seed of the game's random number generators
+	 */
+	private void setSeed(long seedInput)
+	{
+		seed = seedInput;
+		
+		SplittableRandom seeds = new SplittableRandom(seed);
+		player1World.setSeed(seeds.nextLong());
+		player2World.setSeed(seeds.nextLong());
+		computerSeed = seeds.nextLong();
 	}
 
 	public BattleshipWorld getPlayer1World()
@@ -69,14 +95,89 @@ public class Game
 		return player2World;
 	}
 	
-	public ArrayList<Location> getPlayer1Clicks()
+	public ShotHistory getPlayer1Clicks()
+	{
+		return engine.getShotHistory(1);
+	}
+	
+	public ShotHistory getPlayer2Clicks()
+	{
+		return engine.getShotHistory(2);
+	}
+	
+	/**
+	 * Gets the seed every random choice in this game is drawn from.
+	 * @return the seed of the game
+	 */
+	public long getSeed()
+	{
+		return seed;
+	}
+	
+	/**
+	 * Gets the engine running the rules of the current game.
+	 * @return the game engine, or null if both players have not finished setup
+	 */
+	public GameEngine getEngine()
 	{
-		return player1Clicks;
+		return engine;
 	}
 	
-	public ArrayList<Location> getPlayer2Clicks()
+	/**
+	 * Saves the current game, so it can be loaded with loadGame and played on.
+	 * @param file the file to save to
+	 * @throws IOException if the file could not be written
+	 */
+	public void saveGame(File file) throws IOException
 	{
-		return player2Clicks;
+		if (engine == null)
+			throw new IllegalStateException("The game has not started.");
+		new GameSnapshot(engine, seed).save(file);
+	}
+	
+	/**
+	 * Loads a game saved by saveGame and plays on from where it was saved.  The board, both fleets and
+	 * every shot come from the file; whether Player 2 is a Player or the Computer comes from the main
+	 * menu.  The Computer learns the outcome of each of its shots so far before it fires again.  The file
+	 * does not record the Computer's strategy or how far its random choices had got, so it resumes with
+	 * HuntTargeting, the strategy every game here is played with, and a fresh random stream from the saved
+	 * seed: its later shots may differ from those of the game had it not been saved.
+	 * @param file the file to load
+	 * @throws IOException if the file could not be read or does not hold a game that can be played on
+	 */
+	public void loadGame(File file) throws IOException
+	{
+		GameSnapshot snapshot = GameSnapshot.load(file);
+		GameEngine loaded = snapshot.getEngine();
+		if (!loaded.getOcean(1).isFleetPlaced() || !loaded.getOcean(2).isFleetPlaced())
+			throw new IOException("The saved game has not started.");
+		
+		int rows = loaded.getOcean(1).getNumRows();
+		int cols = loaded.getOcean(1).getNumCols();
+		setSeed(snapshot.getSeed());
+		player2Name = menu.getTwoPlayers() ? "Player 2" : "Computer";
+		if (!menu.getTwoPlayers())
+		{
+			try
+			{
+				compPlayer = new Computer(loaded.getOcean(2).getFleet().getShipCount(), rows, cols,
+						new HuntTargeting(), new RandomPlacement(), computerSeed);
+			}
+			catch (IllegalArgumentException e)
+			{
+				throw new IOException("The Computer cannot play the saved fleet.", e);
+			}
+			snapshot.restoreTargeting(compPlayer.getTargeting(), 2, new SplittableRandom(computerSeed));
+			scoreWindow.playerDisplay(false);
+		}
+		
+		engine = loaded;
+		buildFleet(engine.getOcean(1), player1Ships);
+		buildFleet(engine.getOcean(2), player2Ships);
+		showWorlds(rows, cols);
+		showShots(player1World, engine.getOcean(2), player2Ships, engine.getShotHistory(1));
+		showShots(player2World, engine.getOcean(1), player1Ships, engine.getShotHistory(2));
+		turnUpdate();
 	}
 	
 	// TODO delete exception if it doesn't work
@@ -106,7 +207,7 @@ public class Game
 		}
 		else     // setup of Computer
 		{
-			compPlayer = new Computer(menu.getNumOfShips());
+			compPlayer = new Computer(menu.getNumOfShips(), menu.getBoardSize(), computerSeed);
 			// set score window label to "Computer:"
         	scoreWindow.playerDisplay(menu.getTwoPlayers());
             
@@ -123,8 +224,8 @@ public class Game
             for (int i = 0; i < compPlayer.getComputerShips().size(); i++)
             {
             	player2Ships.add(compPlayer.getComputerShips().get(i));
-            	startGame();
             }
+            startGame();
 		}
 	}
 	
@@ -137,15 +238,17 @@ public class Game
     	int setupWorldWidth = 579;
     	int setupWorldHeight = 670;
     	
+    	// the extra row and column hold new ships until they are moved onto the board
+    	int setupSize = menu.getBoardSize() + 1;
     	BattleshipWorld setupWorld;
     	
         if (playerNum == 1)
         {
-        	setupWorld = new BattleshipWorld(new BoundedGrid<Actor>(11, 11), player1Ships, player1Locations, playerNum, menu.getNumOfShips(), this);
+        	setupWorld = new BattleshipWorld(new BoundedGrid<Actor>(setupSize, setupSize), player1Ships, player1Locations, playerNum, menu.getNumOfShips(), this);
         }
         else
         {
-        	setupWorld = new BattleshipWorld(new BoundedGrid<Actor>(11, 11), player2Ships, player2Locations, playerNum, menu.getNumOfShips(), this);
+        	setupWorld = new BattleshipWorld(new BoundedGrid<Actor>(setupSize, setupSize), player2Ships, player2Locations, playerNum, menu.getNumOfShips(), this);
         }
     	
         setupWorld.setMessage("Battleship Set-up: Player " + playerNum + "\nUse WASD to move, Q to rotate left, E to rotate right, and press SPACE to place your ship.");
@@ -160,6 +263,26 @@ public class Game
      */
     public void startGame()
     {
+    	// hand both fleets to the engine that runs the rules of the game
+    	int boardSize = menu.getBoardSize();
+    	engine = new GameEngine(boardSize, boardSize, Fleet.classic(menu.getNumOfShips()));
+    	placeFleet(engine.getOcean(1), player1Ships);
+    	placeFleet(engine.getOcean(2), player2Ships);
+    	
+    	showWorlds(boardSize, boardSize);
+        turnUpdate();
+    }
+    
+    /**
+     * Shows both players' worlds, empty and sized to the oceans, and the score window.
+     * @param rows number of rows in each ocean
+     * @param cols number of columns in each ocean
+     */
+    private void showWorlds(int rows, int cols)
+    {
+    	player1World.setGrid(new BoundedGrid<Actor>(rows, cols));
+    	player2World.setGrid(new BoundedGrid<Actor>(rows, cols));
+    	
     	// set start message
         player1World.setMessage("Player 1");
         player2World.setMessage(player2Name);
@@ -175,10 +298,96 @@ public class Game
     	
         player1World.getFrame().setLocation((screenSize.width/2) - worldWidth, (screenSize.height/2) - worldHeight);
         player2World.getFrame().setLocation((screenSize.width/2), (screenSize.height/2) -  worldHeight);
-        
-        
+    }
     
-        turnUpdate();
+    /**
+     * Places a player's Battleships from their setup world into their ocean in the game engine.
+     * @param ocean the player's ocean in the game engine
+     * @param ships the player's Battleships in fleet order
+     */
+    private void placeFleet(OceanBoard ocean, ArrayList<Battleship> ships)
+    {
+    	for (int i = 0; i < ships.size(); i++)
+    	{
+    		Battleship ship = ships.get(i);
+    		Location first = ship.getShipParts().get(0).getLocation();
+    		Location last = ship.getShipParts().get(ship.getSize() - 1).getLocation();
+    		
+    		// parts may be stored bottom-to-top or right-to-left after a rotation
+    		int row = Math.min(first.getRow(), last.getRow());
+    		int col = Math.min(first.getCol(), last.getCol());
+    		boolean horizontal = first.getRow() == last.getRow() && ship.getSize() > 1;
+    		
+    		ocean.placeShip(i, row, col, horizontal);
+    	}
+    }
+    
+    /**
+     * Builds a player's Battleships from where the game engine placed them, the way the Computer builds its
+     * ships: each part is put in a scratch world at its square so a sunk ship can be redrawn there.
+     * @param ocean the player's ocean in the game engine
+     * @param ships receives the player's Battleships in fleet order
+     */
+    private void buildFleet(OceanBoard ocean, ArrayList<Battleship> ships)
+    {
+    	BattleshipWorld tempWorld = new BattleshipWorld(new BoundedGrid<Actor>(ocean.getNumRows(), ocean.getNumCols()), 3);
+    	Fleet fleet = ocean.getFleet();
+    	for (int i = 0; i < fleet.getShipCount(); i++)
+    	{
+    		ShipPlacement placement = ocean.getShip(i);
+    		Battleship ship = new Battleship(placement.getSize(), fleet.getName(i).equals("Cruiser"));
+    		if (placement.isHorizontal())
+    		{
+    			ship.setShipRotation(true);
+    		}
+    		
+    		for (int j = 0; j < placement.getSize(); j++)
+    		{
+    			BattleshipPart part = new BattleshipPart();
+    			tempWorld.add(Location.of(placement.getSegmentRow(j), placement.getSegmentCol(j)), part);
+    			ship.setShipParts(part);
+    		}
+    		ships.add(ship);
+    	}
+    }
+    
+    /**
+     * Shows the shots a player has already fired in their world, as hitCheck showed them when they were fired:
+     * a hit or miss icon on each square, and each sunk ship redrawn broken.
+     * @param playerWorld the player's BattleshipWorld
+     * @param opponentOcean the ocean the player fired on
+     * @param opponentShips the opponent's Battleships in fleet order
+     * @param shots the player's shots
+     */
+    private void showShots(BattleshipWorld playerWorld, OceanBoard opponentOcean, ArrayList<Battleship> opponentShips,
+    		ShotHistory shots)
+    {
+    	for (int i = 0; i < shots.getShotCount(); i++)
+    	{
+    		int row = shots.getShotRow(i);
+    		int col = shots.getShotCol(i);
+    		ShipPlacement struck = opponentOcean.getShipAt(row, col);
+    		
+    		BattleshipPart hitOrMissIcon = new BattleshipPart();
+    		if (struck == null)
+    		{
+    			hitOrMissIcon.setImage(7);
+    		}
+    		else
+    		{
+    			hitOrMissIcon.setImage(6);
+    			opponentShips.get(struck.getShipId()).setHitCount();
+    		}
+    		playerWorld.add(Location.of(row, col), hitOrMissIcon);
+    	}
+    	
+    	for (int i = 0; i < opponentShips.size(); i++)
+    	{
+    		if (opponentShips.get(i).shipSunk())
+    		{
+    			opponentShips.get(i).buildBrokenShip(playerWorld);
+    		}
+    	}
     }
     
     /**
@@ -187,10 +396,10 @@ public class Game
     public void turnUpdate()
     {
         // updates player's scores on the menu
-        scoreWindow.updateScoreMenu(score1, score2);     
+        scoreWindow.updateScoreMenu(engine.getScore(1), engine.getScore(2));     
         
         // checks if player won the game
-        if (score1 == player2Locations.size())
+        if (engine.getWinner() == 1)
         {
         	JOptionPane.showMessageDialog(null, "Player 1 sunk all of " + player2Name + "'s Battleships!");
             
@@ -198,7 +407,7 @@ public class Game
             player2World.setGameStart(false);
             playAgain();
         }
-        else if (score2 == player1Locations.size())
+        else if (engine.getWinner() == 2)
         {
         	JOptionPane.showMessageDialog(null, player2Name + " sunk all of Player 1's Battleships!");
         	
@@ -220,13 +429,13 @@ public class Game
     	// set reference object for player interaction
         BattleshipWorld player = player1World;
         
-        if (!player1Turn)
+        if (engine.getCurrentPlayer() == 2)
         {
         	player = player2World;
         }
         
         // If player turn, set message and let them click a location
-        if (player1Turn || menu.getTwoPlayers())   
+        if (engine.getCurrentPlayer() == 1 || menu.getTwoPlayers())   
         {
         	player.setMessage("Player " + player.getPlayerNum() + "\nYour turn.  Select a square target of attack.");
         	player.setGameStart(true);
@@ -244,42 +453,48 @@ public class Game
     public void addClickLocation(BattleshipWorld playerWorld)
     {
         // checking if player clicked same square in the game round
-        if (playerWorld.getPlayerNum() == 1 && doubleClick(player1Clicks, playerWorld.getClickLocation()) ||
-        	menu.getTwoPlayers() && playerWorld.getPlayerNum() == 2 && doubleClick(player2Clicks, playerWorld.getClickLocation()))
+        if (playerWorld.getPlayerNum() == 1 && doubleClick(getPlayer1Clicks(), playerWorld.getClickLocation()) ||
+        	menu.getTwoPlayers() && playerWorld.getPlayerNum() == 2 && doubleClick(getPlayer2Clicks(), playerWorld.getClickLocation()))
         {
         	playerWorld.setMessage("Player " + playerWorld.getPlayerNum() + "\nError: Area already bombed.  Select another location.");
         	playerWorld.setClickLocation(null);
         }
-        else  // if not same square, saves its location
+        else  // if not same square, fires on it
         {
-        	// Adds player/computer click location to proper arrayList
-        	if (playerWorld.getPlayerNum() == 1)
-            {
-            	player1Clicks.add(playerWorld.getClickLocation());
-            }
-            else if (playerWorld.getPlayerNum() == 2 && menu.getTwoPlayers())
-            {
-            	player2Clicks.add(playerWorld.getClickLocation());
-            }
-            else   // Computer takes its turn
+        	// Computer picks its square; a Player's click is already set in their world
+        	if (playerWorld.getPlayerNum() == 2 && !menu.getTwoPlayers())
             {
-            	player2Clicks.add(compPlayer.takeTurn(playerWorld, player2Clicks));
+            	compPlayer.takeTurn(playerWorld);
             }
             
-            // checks if player hit the ship
-            if (playerWorld.getPlayerNum() == 1 && playerWorld.hitCheck(player2Ships, compPlayer))
+            // engine resolves the shot and records it in the shooter's history, the world shows the hit or miss
+            Location target = playerWorld.getClickLocation();
+            OceanBoard opponentOcean = engine.getTargetOcean();
+            ShotResult result = engine.fire(target.getRow(), target.getCol());
+            
+            Battleship struckShip = null;
+            if (result.isHit())
             {
-                score1++;
+            	int shipId = opponentOcean.getShipAt(target.getRow(), target.getCol()).getShipId();
+            	struckShip = (playerWorld.getPlayerNum() == 1) ? player2Ships.get(shipId) : player1Ships.get(shipId);
             }
-            if (playerWorld.getPlayerNum() > 1 && playerWorld.hitCheck(player1Ships, compPlayer))
+            playerWorld.hitCheck(result, struckShip, compPlayer);
+            
+            // Computer's strategy learns the outcome of its shot (the sunk ship is revealed on the board)
+            if (playerWorld.getPlayerNum() == 2 && !menu.getTwoPlayers())
             {
-            	score2++;
+            	ShipPlacement sunkShip = null;
+            	if (result == ShotResult.SUNK)
+            	{
+            		sunkShip = opponentOcean.getShipAt(target.getRow(), target.getCol());
+            	}
+            	compPlayer.shotResolved(target, result, sunkShip);
             }
        	}
     }
     
     /**
-     * Turn off player ability to click, toggle whose turn it is, and run the next turn
+     * Turn off player ability to click and run the next turn (the engine already passed the turn when the shot was fired)
      * @param playerWorld  the player's BattleshipWorld
      * @param playerNum    the player's identifying number
      */ 
@@ -294,30 +509,20 @@ public class Game
         	playerWorld.setMessage(player2Name);
         }
         
-        // Turn off player ability to click, toggle whose turn it is, and run the next turn
+        // Turn off player ability to click and run the next turn
         playerWorld.setGameStart(false);
-        player1Turn = !player1Turn;
         turnUpdate();
     }
 
     /**
      * Checks if the Player clicked same location twice.
-     * @param pastClickLocations a list of the Player's click locations
+     * @param pastClickLocations the squares the Player already fired on
      * @param clickLocation the click location to compare against previous clicks
      * @return true if Player clicked the same square, false if the Player clicked a new square
      */ 
-    public boolean doubleClick(ArrayList<Location> pastClickLocations, Location clickLocation)
+    public static boolean doubleClick(ShotHistory pastClickLocations, Location clickLocation)
     {
-        for (int i = 0; i < pastClickLocations.size(); i++)
-        {
-            if (pastClickLocations.get(i).getRow() == clickLocation.getRow() &&
-                pastClickLocations.get(i).getCol() == clickLocation.getCol())
-            {
-                return true;
-            }
-        }
-        
-        return false;
+        return pastClickLocations.wasFired(clickLocation.getRow(), clickLocation.getCol());
     }
     
     /**
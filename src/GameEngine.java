@@ -0,0 +1,214 @@
+/**
+ * Runs the rules of a game of Battleship without any windows: holds both players' oceans, resolves
+ * shots, alternates turns, keeps score and detects the winner.  The Swing classes (Game and
+ * BattleshipWorld) only display what the engine decides, and simulations drive the engine directly.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class GameEngine
+{
+    private OceanBoard player1Ocean;
+    private OceanBoard player2Ocean;
+    private int currentPlayer = 1;
+    private int winner = 0;
+    private ShotHistory player1Shots;
+    private ShotHistory player2Shots;
+    private long player1Key;     // Zobrist hash of player 1's shots, their outcomes and the ships sunk
+    private long player2Key;
+
+    /**
+     * Constructs a game where both players place the given fleet on oceans of the given size.
+     * @param rows number of rows in each ocean
+     * @param cols number of columns in each ocean
+     * @param fleet the fleet each player places
+     */
+    public GameEngine(int rows, int cols, Fleet fleet)
+    {
+        player1Ocean = new OceanBoard(rows, cols, fleet);
+        player2Ocean = new OceanBoard(rows, cols, fleet);
+        player1Shots = new ShotHistory(rows, cols);
+        player2Shots = new ShotHistory(rows, cols);
+    }
+
+    /**
+     * Gets the ocean owned by a player, which is the ocean their opponent fires on.
+     * @param playerNum the player's identifying number (1 or 2)
+     * @return the player's ocean
+     */
+    public OceanBoard getOcean(int playerNum)
+    {
+        if (playerNum == 1)
+            return player1Ocean;
+        if (playerNum == 2)
+            return player2Ocean;
+        throw new IllegalArgumentException("playerNum must be 1 or 2");
+    }
+
+    /**
+     * Gets the ocean the current player is firing on.
+     * @return the opponent's ocean
+     */
+    public OceanBoard getTargetOcean()
+    {
+        return getOcean(3 - currentPlayer);
+    }
+
+    /**
+     * Gets whose turn it is.
+     * @return the identifying number of the player to fire next
+     */
+    public int getCurrentPlayer()
+    {
+        return currentPlayer;
+    }
+
+    /**
+     * Checks whether a game is ready to be played.
+     * @return true if both players have placed their whole fleet, false if they have not
+     */
+    public boolean isReady()
+    {
+        return player1Ocean.isFleetPlaced() && player2Ocean.isFleetPlaced();
+    }
+
+    /**
+     * The current player fires on a square of the opponent's ocean, then the turn passes to the opponent.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return whether the shot missed, hit, or sunk a ship
+     */
+    public ShotResult fire(int row, int col)
+    {
+        if (!isReady())
+            throw new IllegalStateException("Both fleets must be placed before firing.");
+        if (isGameOver())
+            throw new IllegalStateException("The game is over.");
+
+        OceanBoard target = getTargetOcean();
+        ShotResult result = target.fire(row, col);
+        getShotHistory(currentPlayer).record(row, col);
+
+        int cell = row * target.getNumCols() + col;
+        long key = ZobristKeys.shot(currentPlayer, cell, result != ShotResult.MISS);
+        if (result == ShotResult.SUNK)
+        {
+            key ^= ZobristKeys.sunk(currentPlayer, target.getShipAt(row, col).getShipId());
+        }
+        if (currentPlayer == 1)
+        {
+            player1Key ^= key;
+        }
+        else
+        {
+            player2Key ^= key;
+        }
+
+        if (target.isFleetSunk())
+        {
+            winner = currentPlayer;
+        }
+
+        currentPlayer = 3 - currentPlayer;
+        return result;
+    }
+
+    /**
+     * Gets a player's score: the number of their shots that hit a ship.
+     * @param playerNum the player's identifying number (1 or 2)
+     * @return the player's score
+     */
+    public int getScore(int playerNum)
+    {
+        return getOcean(3 - playerNum).getHitCount();
+    }
+
+    /**
+     * Gets the number of shots a player has fired.
+     * @param playerNum the player's identifying number (1 or 2)
+     * @return the number of shots fired by the player
+     */
+    public int getShotCount(int playerNum)
+    {
+        return getShotHistory(playerNum).getShotCount();
+    }
+
+    /**
+     * Gets the squares a player has fired on, in the order they were fired.
+     * @param playerNum the player's identifying number (1 or 2)
+     * @return the player's shot history
+     */
+    public ShotHistory getShotHistory(int playerNum)
+    {
+        if (playerNum == 1)
+            return player1Shots;
+        if (playerNum == 2)
+            return player2Shots;
+        throw new IllegalArgumentException("playerNum must be 1 or 2");
+    }
+
+    /**
+     * Gets the Zobrist hash of the position: every square each player has fired on and what it struck,
+     * the ships each has sunk, and whose turn it is.  Ship layouts are not part of the position.  The
+     * hash is kept up to date as shots are fired, so getting it takes constant time.
+     * @return the 64-bit hash
+     */
+    public long getPositionKey()
+    {
+        long key = player1Key ^ player2Key;
+        if (currentPlayer == 2)
+        {
+            key ^= ZobristKeys.secondPlayerToMove();
+        }
+        return key;
+    }
+
+    /**
+     * Gets the Zobrist hash of what one player's shots have revealed: the squares they fired on, what
+     * each struck, and the ships they sank.  This is all a targeting strategy knows, so it identifies
+     * the strategy's position for caching its results.
+     * @param playerNum the player's identifying number (1 or 2)
+     * @return the 64-bit hash
+     */
+    public long getPositionKey(int playerNum)
+    {
+        if (playerNum == 1)
+            return player1Key;
+        if (playerNum == 2)
+            return player2Key;
+        throw new IllegalArgumentException("playerNum must be 1 or 2");
+    }
+
+    /**
+     * Checks whether a player has sunk the whole opposing fleet.
+     * @return true if the game is over, false if it is not
+     */
+    public boolean isGameOver()
+    {
+        return winner != 0;
+    }
+
+    /**
+     * Gets the winner of the game.
+     * @return the identifying number of the winning player, or 0 if the game is not over
+     */
+    public int getWinner()
+    {
+        return winner;
+    }
+
+    /**
+     * Clears both oceans and the score so the engine can run another game with the same fleet.
+     */
+    public void reset()
+    {
+        player1Ocean.clear();
+        player2Ocean.clear();
+        currentPlayer = 1;
+        winner = 0;
+        player1Shots.clear();
+        player2Shots.clear();
+        player1Key = 0;
+        player2Key = 0;
+    }
+}
@@ -0,0 +1,332 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * A saved position of a game: the fleet, both players' ship layouts, every shot in the order it was
+ * fired, and the seed the game's random choices came from.  Turn, scores, sunk ships and the winner are
+ * not stored, because replaying the shots through a new GameEngine rebuilds them exactly.  Which
+ * targeting strategy fired for a player and how far its random choices had got are not stored either:
+ * restoreTargeting replays the outcomes into whatever strategy the loader supplies, and its random
+ * choices start afresh, so a computer's shots after loading may differ from those it would have fired.
+ *
+ * The binary format, all big-endian, is a magic number and version, the seed, the board size and fleet,
+ * then for each player a byte per ship (0 unplaced, 1 horizontal, 2 vertical) followed by its top/left
+ * square, and the number of shots followed by the squares fired on.  Squares are row-major numbers,
+ * written as two bytes when the board has at most 65536 squares, so a classic game takes a few hundred
+ * bytes.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class GameSnapshot
+{
+    private static final int MAGIC = 0x42534850;   // "BSHP"
+    private static final int VERSION = 1;
+    private static final int UNPLACED = 0;
+    private static final int HORIZONTAL = 1;
+    private static final int VERTICAL = 2;
+
+    // a game read is checked against these before anything is allocated for it, so a damaged file
+    // fails with an IOException instead of running out of memory
+    private static final long MAX_CELLS = 1L << 24;          // squares per ocean
+    private static final long MAX_LAYER_BITS = 1L << 30;     // bits in an ocean's per-ship masks and layers
+
+    private GameEngine engine;
+    private long seed;
+
+    /**
+     * Constructs a snapshot of a game.
+     * @param engineInput the game's engine
+     * @param seedInput the seed of the game's random choices
+     */
+    public GameSnapshot(GameEngine engineInput, long seedInput)
+    {
+        engine = engineInput;
+        seed = seedInput;
+    }
+
+    /**
+     * Gets the engine of the game.
+     * @return the engine
+     */
+    public GameEngine getEngine()
+    {
+        return engine;
+    }
+
+    /**
+     * Gets the seed of the game's random choices.
+     * @return the seed
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Writes the game.
+     * @param out where to write the game
+     * @throws IOException if the game could not be written
+     */
+    public void write(DataOutput out) throws IOException
+    {
+        OceanBoard ocean = engine.getOcean(1);
+        int rows = ocean.getNumRows();
+        int cols = ocean.getNumCols();
+        Fleet fleet = ocean.getFleet();
+        boolean wide = isWide(rows, cols);
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeInt(rows);
+        out.writeInt(cols);
+        out.writeShort(fleet.getShipCount());
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            out.writeShort(fleet.getSize(i));
+            out.writeUTF(fleet.getName(i));
+        }
+
+        for (int playerNum = 1; playerNum <= 2; playerNum++)
+        {
+            OceanBoard playerOcean = engine.getOcean(playerNum);
+            for (int i = 0; i < fleet.getShipCount(); i++)
+            {
+                ShipPlacement ship = playerOcean.getShip(i);
+                if (ship == null)
+                {
+                    out.writeByte(UNPLACED);
+                }
+                else
+                {
+                    out.writeByte(ship.isHorizontal() ? HORIZONTAL : VERTICAL);
+                    writeCell(out, ship.getRow() * cols + ship.getCol(), wide);
+                }
+            }
+
+            ShotHistory shots = engine.getShotHistory(playerNum);
+            out.writeInt(shots.getShotCount());
+            for (int i = 0; i < shots.getShotCount(); i++)
+            {
+                writeCell(out, shots.getShot(i), wide);
+            }
+        }
+    }
+
+    /**
+     * Reads a game written by write and replays it.
+     * @param in where to read the game from
+     * @return the snapshot, with a new engine in the same position as the saved one
+     * @throws IOException if the game could not be read, is not a valid game, or has an ocean of more than
+     *         16777216 squares
+     */
+    public static GameSnapshot read(DataInput in) throws IOException
+    {
+        if (in.readInt() != MAGIC)
+            throw new IOException("not a Battleship game");
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+            throw new IOException("unsupported Battleship game version " + version);
+
+        long seed = in.readLong();
+        int rows = in.readInt();
+        int cols = in.readInt();
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > MAX_CELLS)
+            throw new IOException("ocean size out of range: " + rows + "x" + cols);
+        int cellCount = rows * cols;
+
+        // every ship needs a square, and the engine keeps a mask of the ocean per ship
+        int shipCount = in.readUnsignedShort();
+        if (shipCount > cellCount || (shipCount + 3L) * cellCount > MAX_LAYER_BITS)
+            throw new IOException("too many ships for a " + rows + "x" + cols + " ocean: " + shipCount);
+        int[] sizes = new int[shipCount];
+        String[] names = new String[shipCount];
+        for (int i = 0; i < shipCount; i++)
+        {
+            sizes[i] = in.readUnsignedShort();
+            names[i] = in.readUTF();
+        }
+
+        // every ship must fit on the ocean in some orientation, and the fleet must fit on it together
+        long fleetCells = 0;
+        for (int i = 0; i < shipCount; i++)
+        {
+            if (sizes[i] <= 0 || sizes[i] > Math.max(rows, cols))
+                throw new IOException("ship size out of range: " + sizes[i]);
+            fleetCells += sizes[i];
+        }
+        if (fleetCells > cellCount)
+            throw new IOException("the fleet covers more than the " + cellCount + " squares of the ocean");
+        boolean wide = isWide(rows, cols);
+
+        try
+        {
+            GameEngine engine = new GameEngine(rows, cols, new Fleet(sizes, names));
+            int[][] shots = new int[2][];
+            for (int playerNum = 1; playerNum <= 2; playerNum++)
+            {
+                OceanBoard ocean = engine.getOcean(playerNum);
+                for (int i = 0; i < shipCount; i++)
+                {
+                    int orientation = in.readUnsignedByte();
+                    if (orientation != UNPLACED)
+                    {
+                        int cell = readCell(in, wide);
+                        ocean.placeShip(i, cell / cols, cell % cols, orientation == HORIZONTAL);
+                    }
+                }
+
+                // a square is fired on at most once
+                int shotCount = in.readInt();
+                if (shotCount < 0 || shotCount > cellCount)
+                    throw new IOException("shot count out of range: " + shotCount);
+                shots[playerNum - 1] = new int[shotCount];
+                for (int i = 0; i < shots[playerNum - 1].length; i++)
+                {
+                    shots[playerNum - 1][i] = readCell(in, wide);
+                }
+            }
+
+            // player 1 fires first and the turns alternate, so the shots interleave one way only
+            int shotCount1 = shots[0].length;
+            int shotCount2 = shots[1].length;
+            if (shotCount1 != shotCount2 && shotCount1 != shotCount2 + 1)
+                throw new IOException("the players' shot counts do not alternate");
+            for (int i = 0; i < shotCount1 + shotCount2; i++)
+            {
+                int cell = shots[i % 2][i / 2];
+                engine.fire(cell / cols, cell % cols);
+            }
+            return new GameSnapshot(engine, seed);
+        }
+        catch (RuntimeException e)
+        {
+            // a bad layout or shot makes the engine refuse it
+            throw new IOException("not a valid Battleship game", e);
+        }
+    }
+
+    /**
+     * Saves the game to a file.
+     * @param file the file to write
+     * @throws IOException if the file could not be written
+     */
+    public void save(File file) throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try
+        {
+            write(out);
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    /**
+     * Loads a game saved by save.
+     * @param file the file to read
+     * @return the snapshot, with a new engine in the saved position
+     * @throws IOException if the file could not be read or does not hold a valid game
+     */
+    public static GameSnapshot load(File file) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try
+        {
+            return read(in);
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    /**
+     * Brings a targeting strategy up to date with a player's shots so far, telling it the outcome of each
+     * shot in order.  The strategy learns everything its shots revealed; its random choices carry on
+     * from the given generator rather than from where the saved game left off.
+     * @param targeting the strategy firing for the player
+     * @param playerNum the player's identifying number (1 or 2)
+     * @param random the random number generator for the rest of the game
+     */
+    public void restoreTargeting(TargetingStrategy targeting, int playerNum, SplittableRandom random)
+    {
+        OceanBoard target = engine.getOcean(3 - playerNum);
+        if (!target.isFleetPlaced())
+            throw new IllegalStateException("The opponent's fleet has not been placed.");
+        int rows = target.getNumRows();
+        int cols = target.getNumCols();
+        Fleet fleet = target.getFleet();
+
+        // fire the shots again on a copy of the opponent's ocean to recover each outcome
+        OceanBoard replay = new OceanBoard(rows, cols, fleet);
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            ShipPlacement ship = target.getShip(i);
+            replay.placeShip(i, ship.getRow(), ship.getCol(), ship.isHorizontal());
+        }
+
+        targeting.newGame(rows, cols, fleet, random);
+        ShotHistory shots = engine.getShotHistory(playerNum);
+        for (int i = 0; i < shots.getShotCount(); i++)
+        {
+            int row = shots.getShotRow(i);
+            int col = shots.getShotCol(i);
+            ShotResult result = replay.fire(row, col);
+            targeting.shotResolved(shots.getShot(i), result,
+                                   result == ShotResult.SUNK ? replay.getShipAt(row, col) : null);
+        }
+    }
+
+    /**
+     * Checks whether squares need four bytes rather than two.
+     * @param rows number of rows in the ocean
+     * @param cols number of columns in the ocean
+     * @return true if a square's number may not fit in two bytes
+     */
+    private static boolean isWide(int rows, int cols)
+    {
+        return (long) rows * cols > 65536;
+    }
+
+    /**
+     * Writes the number of a square.
+     * @param out where to write the square
+     * @param cell the row-major number of the square
+     * @param wide true to write four bytes, false to write two
+     * @throws IOException if the square could not be written
+     */
+    private static void writeCell(DataOutput out, int cell, boolean wide) throws IOException
+    {
+        if (wide)
+            out.writeInt(cell);
+        else
+            out.writeShort(cell);
+    }
+
+    /**
+     * Reads the number of a square.
+     * @param in where to read the square from
+     * @param wide true to read four bytes, false to read two
+     * @return the row-major number of the square
+     * @throws IOException if the square could not be read
+     */
+    private static int readCell(DataInput in, boolean wide) throws IOException
+    {
+        if (wide)
+            return in.readInt();
+        return in.readUnsignedShort();
+    }
+}
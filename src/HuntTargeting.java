@@ -0,0 +1,283 @@
+import java.util.SplittableRandom;
+
+/**
+ * The Computer's original way of firing.  Guesses random squares until it hits a Battleship, then tries
+ * the squares around the first hit, follows the line of hits once a second segment is found, and comes
+ * back to the other side of the first hit when the line runs out.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class HuntTargeting implements TargetingStrategy
+{
+    private int rows;
+    private int cols;
+    private SplittableRandom random;
+    private BitBoard fired;
+    private int[] open;          // squares not yet fired on, in open[0 .. openCount - 1]
+    private int[] openPosition;  // where each square is in open
+    private int openCount;
+    private int lastShot;
+    private boolean hitShip;     // whether the previous shot hit a Battleship that is still afloat
+    private int hitLocBase;      // first hit location on current targeted battleship, or -1
+    private int hitLocCurrent;   // the second/third/etc. location on the current Battleship target, or -1
+
+    public void newGame(int rowsInput, int colsInput, Fleet fleet, SplittableRandom randomInput)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        random = randomInput;
+        if (fired == null || fired.getNumRows() != rows || fired.getNumCols() != cols)
+        {
+            fired = new BitBoard(rows, cols);
+            open = new int[rows * cols];
+            openPosition = new int[rows * cols];
+        }
+        else
+        {
+            fired.clearAll();
+        }
+        for (int i = 0; i < open.length; i++)
+        {
+            open[i] = i;
+            openPosition[i] = i;
+        }
+        openCount = open.length;
+        lastShot = -1;
+        hitShip = false;
+        hitLocBase = -1;
+        hitLocCurrent = -1;
+    }
+
+    /**
+     * Guesses a random square.  If a Battleship is hit, guesses near that square until it is sunk.
+     * @return the row-major number of the square guessed
+     */
+    public int nextShot()
+    {
+        int guess = -1;
+
+        // setting new hit location if hit previous turn
+        if (hitLocBase < 0 && hitShip)
+        {
+            hitLocBase = lastShot;
+        }
+        else if (hitLocBase >= 0 && hitShip)   // extending for computer to guess off of
+        {
+            hitLocCurrent = lastShot;
+        }
+
+        if (hitLocBase >= 0 && hitLocCurrent < 0)   // Clicks one of the cardinal directions from hit
+        {
+            guess = cardinalClick();
+        }
+        else if (hitShip && hitLocCurrent >= 0)  // pattern guess in line after second part is found
+        {
+            guess = patternLocCheck();
+
+            if (guess < 0)   // If hit the world boundary, jump to the last pattern guess
+            {
+                guess = compareHitLoc();
+            }
+        }
+        else if (!hitShip && hitLocCurrent >= 0) // If reached world boundary/end of ship, checks the other side of original hit
+        {
+            guess = compareHitLoc();
+        }
+
+        if (guess < 0)   // random guess
+        {
+            guess = huntShot();
+        }
+        return guess;
+    }
+
+    public void shotResolved(int cell, ShotResult result, ShipPlacement sunkShip)
+    {
+        fired.set(cell);
+        lastShot = cell;
+
+        // swap the last open square into the fired square's place
+        int position = openPosition[cell];
+        int last = open[--openCount];
+        open[position] = last;
+        openPosition[last] = position;
+        open[openCount] = cell;
+        openPosition[cell] = openCount;
+
+        if (result == ShotResult.SUNK)
+        {
+            // stops looking for the ship once it is destroyed
+            hitShip = false;
+            hitLocBase = -1;
+            hitLocCurrent = -1;
+        }
+        else
+        {
+            hitShip = result == ShotResult.HIT;
+        }
+    }
+
+    /**
+     * Picks a square while no Battleship is being targeted.  Subclasses may hunt more cleverly.
+     * @return the row-major number of a square that was not fired on
+     */
+    protected int huntShot()
+    {
+        return randomUnfired();
+    }
+
+    /**
+     * Picks a uniformly random square that was not fired on, in constant time whatever the board size.
+     * @return the row-major number of the square, or -1 if every square was fired on
+     */
+    protected int randomUnfired()
+    {
+        if (openCount == 0)
+        {
+            return -1;
+        }
+        return open[random.nextInt(openCount)];
+    }
+
+    /**
+     * Gets the squares fired on so far this game.
+     * @return the fired squares
+     */
+    protected BitBoard getFired()
+    {
+        return fired;
+    }
+
+    /**
+     * Gets the random number generator for this game.
+     * @return the random number generator
+     */
+    protected SplittableRandom getRandom()
+    {
+        return random;
+    }
+
+    /**
+     * Checks whether a square is inside the ocean and was not fired on.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return true if the square can be fired on, false if it cannot
+     */
+    private boolean isOpen(int row, int col)
+    {
+        return row >= 0 && row < rows && col >= 0 && col < cols && !fired.get(row * cols + col);
+    }
+
+    /**
+     * Randomly selects a cardinal direction away from first Battleship hit location.
+     * @return the next square to guess, or -1 if every direction is blocked
+     */
+    private int cardinalClick()
+    {
+        int row = 0;
+        int col = 0;
+        int randDirection = 0;
+        boolean north = true;
+        boolean east = true;
+        boolean south = true;
+        boolean west = true;
+        boolean validLoc = false;
+
+        // Checks for a valid location to click around found battleship
+        while ((north || east || south || west) && !validLoc)
+        {
+            // resets row and column to the first hit for re-check
+            row = hitLocBase / cols;
+            col = hitLocBase % cols;
+
+            // sets a random direction to check
+            randDirection = random.nextInt(4);
+
+            if (randDirection == 0 && north)
+            {
+                row--;
+                north = false;
+            }
+            else if (randDirection == 1 && east)
+            {
+                col++;
+                east = false;
+            }
+            else if (randDirection == 2 && south)
+            {
+                row++;
+                south = false;
+            }
+            else if (randDirection == 3 && west)
+            {
+                col--;
+                west = false;
+            }
+
+            validLoc = isOpen(row, col);
+        }
+
+        if (validLoc)
+        {
+            return row * cols + col;
+        }
+
+        hitShip = false;
+        return -1;
+    }
+
+    /**
+     * Checks for second/third/etc. Battleship part on same Battleship target.
+     * @return the next square in line with the hits, or -1 if it is off the ocean or already fired on
+     */
+    private int patternLocCheck()
+    {
+        int row = hitLocCurrent / cols;
+        int col = hitLocCurrent % cols;
+        int baseRow = hitLocBase / cols;
+        int baseCol = hitLocBase % cols;
+
+        // first checks if ship is vertical
+        if (row != baseRow)
+        {
+            row += (row > baseRow) ? 1 : -1;
+        }
+        else     // performs if ship is horizontal
+        {
+            col += (col > baseCol) ? 1 : -1;
+        }
+
+        return isOpen(row, col) ? row * cols + col : -1;
+    }
+
+    /**
+     * Checks opposite side of hitLocBase for remainder of ship to destroy.
+     * @return the square past the first hit, or -1 if it is off the ocean or already fired on
+     */
+    private int compareHitLoc()
+    {
+        int row = hitLocBase / cols;
+        int col = hitLocBase % cols;
+        int currentRow = hitLocCurrent / cols;
+        int currentCol = hitLocCurrent % cols;
+
+        if (row != currentRow)
+        {
+            row += (row > currentRow) ? 1 : -1;
+        }
+        else
+        {
+            col += (col > currentCol) ? 1 : -1;
+        }
+
+        // making sure guess does not go out of bounds
+        if (row < 0 || row >= rows || col < 0 || col >= cols)
+        {
+            hitShip = false;
+            return -1;
+        }
+
+        return isOpen(row, col) ? row * cols + col : -1;
+    }
+}
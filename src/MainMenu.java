@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.net.URL;
 
 import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 
 /**
  * A basic menu to setup the Battleship game.
@@ -23,10 +25,13 @@ public class MainMenu extends JFrame
 	 */
 	private static final long serialVersionUID = -3887518614427938219L;
 	private JButton startButton;
+	private JButton loadButton;
 	private JLabel titleLabel;
 	private JLabel gameTypeLabel;
 	private JLabel playerLabel;
 	private JLabel shipNumberLabel;
+	private JLabel boardSizeLabel;
+	private JSpinner boardSizeSpinner;
 	private JRadioButton twoPlayerRButton;
 	private JRadioButton computerRButton;
 	private JRadioButton timeLimitGameRButton;
@@ -41,6 +46,7 @@ public class MainMenu extends JFrame
 	private boolean twoPlayers = true;
 	private int gameType = 0;
 	private int numOfShips = 3;
+	private int boardSize = 10;
 	
 	// initializing game object to start game when ready
 	Game game = new Game(this);
@@ -69,7 +75,7 @@ public class MainMenu extends JFrame
 		
 		// Start Button
 		startButton = new JButton("Start Game!");
-		startButton.setBounds(150,298,100,35);
+		startButton.setBounds(90,298,100,35);
 		startButton.setBackground(new Color(214,217,223));
 		startButton.setForeground(new Color(0,0,0));
 		startButton.setEnabled(true);
@@ -89,6 +95,32 @@ public class MainMenu extends JFrame
 		    }
 		});
 		
+		// Load Button (plays on a saved game against the Player or Computer selected above)
+		loadButton = new JButton("Load Game");
+		loadButton.setBounds(210,298,100,35);
+		loadButton.setBackground(new Color(214,217,223));
+		loadButton.setForeground(new Color(0,0,0));
+		loadButton.setEnabled(true);
+		loadButton.setFont(new Font("sansserif",0,12));
+		loadButton.setVisible(true);
+		loadButton.addActionListener(new ActionListener()
+		{
+		    @Override
+		    public void actionPerformed(ActionEvent event) 
+		    {
+		    	JFileChooser chooser = new JFileChooser();
+		    	if (chooser.showOpenDialog(MainMenu.this) == JFileChooser.APPROVE_OPTION)
+		    	{
+		    		try {
+		    			game.loadGame(chooser.getSelectedFile());
+		    			dispose();
+		    		} catch (IOException e) {
+		    			JOptionPane.showMessageDialog(MainMenu.this, "The game could not be loaded: " + e.getMessage());
+		    		}
+		    	}
+		    }
+		});
+		
 		// Labels
 		titleLabel = new JLabel("Battleship");
 		titleLabel.setBounds(125,20,150,35);
@@ -123,6 +155,14 @@ public class MainMenu extends JFrame
 		shipNumberLabel.setFont(new Font("SansSerif",1,16));
 		shipNumberLabel.setVisible(true);
 		
+		boardSizeLabel = new JLabel("Board Size");
+		boardSizeLabel.setBounds(220,218,120,35);
+		boardSizeLabel.setBackground(new Color(214,217,223));
+		boardSizeLabel.setForeground(new Color(0,0,0));
+		boardSizeLabel.setEnabled(true);
+		boardSizeLabel.setFont(new Font("SansSerif",1,16));
+		boardSizeLabel.setVisible(true);
+		
 		// Player Radio Buttons	
 		twoPlayerRButton = new JRadioButton("2-Player");
 		twoPlayerRButton.setSelected(true);
@@ -291,8 +331,23 @@ public class MainMenu extends JFrame
 		shipNumGroup.add(fourShipRButton);
 		shipNumGroup.add(fiveShipRButton);
 		
+		// Board size spinner (rows and columns of each ocean)
+		boardSizeSpinner = new JSpinner(new SpinnerNumberModel(10, 10, 1000, 1));
+		boardSizeSpinner.setBounds(222,255,70,25);
+		boardSizeSpinner.setFont(new Font("sansserif",0,12));
+		boardSizeSpinner.setVisible(true);
+		boardSizeSpinner.addChangeListener(new ChangeListener()
+		{
+		    @Override
+		    public void stateChanged(ChangeEvent event) 
+		    {
+		        boardSize = (Integer) boardSizeSpinner.getValue();
+		    }
+		});
+		
 		//adding components to contentPane panel
 		contentPane.add(startButton);
+		contentPane.add(loadButton);
 		contentPane.add(titleLabel);
 		contentPane.add(gameTypeLabel);
 		contentPane.add(playerLabel);
@@ -306,6 +361,8 @@ public class MainMenu extends JFrame
 		contentPane.add(threeShipRButton);
 		contentPane.add(fourShipRButton);
 		contentPane.add(fiveShipRButton);
+		contentPane.add(boardSizeLabel);
+		contentPane.add(boardSizeSpinner);
 
 		//adding panel to JFrame and setting of window position and close operation
 		this.add(contentPane);
@@ -340,4 +397,13 @@ public class MainMenu extends JFrame
 	    return numOfShips;
 	    
 	}
+	
+	/**
+	 * Gets the number of rows and columns of each ocean selected in the main menu
+	 * @return the board size selected in the main menu
+	 */
+	public int getBoardSize()
+	{
+	    return boardSize;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+import java.util.SplittableRandom;
+
+/**
+ * Plays headless games between two computer players so strategies can be compared head-to-head.
+ * A match reuses its engine from game to game.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class Match
+{
+    private GameEngine engine;
+    private Fleet fleet;
+    private int rows;
+    private int cols;
+
+    /**
+     * Constructs a match on oceans of the given size.
+     * @param rowsInput number of rows in each ocean
+     * @param colsInput number of columns in each ocean
+     * @param fleetInput the fleet each player places
+     */
+    public Match(int rowsInput, int colsInput, Fleet fleetInput)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        fleet = fleetInput;
+        engine = new GameEngine(rows, cols, fleet);
+    }
+
+    /**
+     * Gets the engine of the last game played, to inspect its score and shot counts.
+     * @return the game engine
+     */
+    public GameEngine getEngine()
+    {
+        return engine;
+    }
+
+    /**
+     * Plays one game to the end.  Player 1 fires first.
+     * @param placement1 places player 1's fleet
+     * @param targeting1 fires for player 1
+     * @param placement2 places player 2's fleet
+     * @param targeting2 fires for player 2
+     * @param random the random number generator for this game; the same seed replays the same game
+     * @return the identifying number of the winning player
+     */
+    public int play(PlacementStrategy placement1, TargetingStrategy targeting1,
+                    PlacementStrategy placement2, TargetingStrategy targeting2, SplittableRandom random)
+    {
+        engine.reset();
+        // every strategy draws from its own stream, so swapping one does not change the others' choices
+        placement1.placeFleet(engine.getOcean(1), random.split());
+        placement2.placeFleet(engine.getOcean(2), random.split());
+        targeting1.newGame(rows, cols, fleet, random.split());
+        targeting2.newGame(rows, cols, fleet, random.split());
+
+        while (!engine.isGameOver())
+        {
+            TargetingStrategy shooter = (engine.getCurrentPlayer() == 1) ? targeting1 : targeting2;
+            OceanBoard target = engine.getTargetOcean();
+
+            int cell = shooter.nextShot();
+            int row = cell / cols;
+            int col = cell % cols;
+            ShotResult result = engine.fire(row, col);
+            shooter.shotResolved(cell, result, result == ShotResult.SUNK ? target.getShipAt(row, col) : null);
+        }
+        return engine.getWinner();
+    }
+}
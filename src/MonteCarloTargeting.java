@@ -0,0 +1,548 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * A targeting AI that fires where the opponent's ships most often turn up in layouts consistent with
+ * what it has seen: layouts in which no ship covers a miss or a sunk ship, every hit not yet tied to a
+ * sunk ship is covered, and no ship lies wholly on hits, since it would then have been announced sunk.
+ * The unfired square most likely to be covered, every consistent layout being equally likely, is fired on.
+ * <p>
+ * Each sample first puts a ship over every hit not yet covered, choosing uniformly among all the ships
+ * and placements that fit there, then tries each remaining ship at a placement chosen uniformly among all
+ * of its placements; samples that cannot be completed are thrown away.  Left alone this would favour
+ * layouts that explain the hits with few choices, so each sample is weighted by the product of the
+ * number of choices at each step, the inverse of its chance of being drawn.  Every consistent layout is
+ * drawn in exactly one way, so the weighted counts estimate the chances of each square.
+ * <p>
+ * Samples are drawn in rounds by a fixed number of batches, each with its own random number generator
+ * split off at the start of the game and its own counts, so the batches run on as many cores as are
+ * free and still give the same shots for the same seed.  The counts are merged after each round, and
+ * sampling stops early once the leading square is ahead of the runner-up by more than chance explains.
+ * <p>
+ * Late in a game the layouts left are few enough to count exactly, so each shot first asks an
+ * EndgameSolver for the exact chances and only samples when the solver gives up.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class MonteCarloTargeting implements TargetingStrategy
+{
+    private static final int BATCHES = 8;
+    private static final int ROUND_SAMPLES = 256;          // per batch
+    private static final int DEFAULT_MAX_SAMPLES = 16384;
+    private static final double CLEAR_LEAD = 3.0;          // standard deviations
+
+    private int maxSamples;
+
+    // game state, read by the batches while they sample
+    private int rows;
+    private int cols;
+    private int[] sizes;             // ship sizes by fleet index
+    private PlacementTable[] tables; // placements by fleet index
+    private boolean[] sunk;          // by fleet index
+    private BitBoard fired;
+    private BitBoard blocked;        // misses and sunk ships
+    private int[] hits;              // hits not yet tied to a sunk ship
+    private BitBoard unresolved;     // the same hits, as a board
+    private int hitCount;
+    private SplittableRandom random;
+
+    private Batch[] batches;
+    private double[] counts;         // weight of the samples covering each square, merged over the batches
+    private EndgameSolver solver;
+    private double[] probabilities;
+
+    /**
+     * Constructs a strategy that draws up to 16384 samples per shot.
+     */
+    public MonteCarloTargeting()
+    {
+        this(DEFAULT_MAX_SAMPLES);
+    }
+
+    /**
+     * Constructs a strategy that draws up to the given number of samples per shot.
+     * @param maxSamplesInput the most samples to draw before picking a square
+     * @throws IllegalArgumentException if maxSamplesInput is not positive
+     */
+    public MonteCarloTargeting(int maxSamplesInput)
+    {
+        if (maxSamplesInput <= 0)
+        {
+            throw new IllegalArgumentException("maxSamples must be positive: " + maxSamplesInput);
+        }
+        maxSamples = maxSamplesInput;
+    }
+
+    public void newGame(int rowsInput, int colsInput, Fleet fleet, SplittableRandom randomInput)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        random = randomInput;
+
+        sizes = new int[fleet.getShipCount()];
+        for (int i = 0; i < sizes.length; i++)
+        {
+            sizes[i] = fleet.getSize(i);
+        }
+        tables = new PlacementTable[sizes.length];
+        for (int i = 0; i < sizes.length; i++)
+        {
+            tables[i] = PlacementTable.of(rows, cols, sizes[i]);
+        }
+        sunk = new boolean[sizes.length];
+
+        fired = new BitBoard(rows, cols);
+        blocked = new BitBoard(rows, cols);
+        hits = new int[16];
+        hitCount = 0;
+        unresolved = new BitBoard(rows, cols);
+
+        counts = new double[rows * cols];
+        solver = new EndgameSolver(rows, cols);
+        probabilities = new double[rows * cols];
+        batches = new Batch[BATCHES];
+        for (int b = 0; b < BATCHES; b++)
+        {
+            batches[b] = new Batch(random.split());
+        }
+    }
+
+    /**
+     * Picks the unfired square most likely to hold a ship, breaking ties at random.  The chances are
+     * exact when the solver can count the layouts left; otherwise layouts are sampled until the most
+     * covered unfired square is clearly ahead or the sample limit is reached.  Picks a random unfired
+     * square if no layout could be sampled.
+     * @return the row-major number of the square to fire on, or -1 if every square was fired on
+     */
+    public int nextShot()
+    {
+        int cellCount = rows * cols;
+        if (fired.cardinality() == cellCount)
+        {
+            return -1;
+        }
+
+        int shipsAfloat = 0;
+        for (int i = 0; i < sunk.length; i++)
+        {
+            if (!sunk[i])
+            {
+                shipsAfloat++;
+            }
+        }
+        int[] afloat = new int[shipsAfloat];
+        for (int i = 0, k = 0; i < sunk.length; i++)
+        {
+            if (!sunk[i])
+            {
+                afloat[k] = sizes[i];
+                k++;
+            }
+        }
+        if (solver.solve(afloat, blocked, unresolved, probabilities) > 0)
+        {
+            return mostLikely();
+        }
+
+        for (int cell = 0; cell < cellCount; cell++)
+        {
+            counts[cell] = 0;
+        }
+        for (int b = 0; b < BATCHES; b++)
+        {
+            batches[b].prepare();
+        }
+
+        // a batch already inside a pool, such as a tournament game, would only compete with its neighbours
+        boolean parallel = !ForkJoinTask.inForkJoinPool();
+        int samples = 0;
+        double weight = 0;
+        double weightSquares = 0;
+        double best = -1;
+        while (samples < maxSamples)
+        {
+            int perBatch = Math.min(ROUND_SAMPLES, (maxSamples - samples + BATCHES - 1) / BATCHES);
+            IntStream indices = IntStream.range(0, BATCHES);
+            if (parallel)
+            {
+                indices = indices.parallel();
+            }
+            indices.forEach(b -> batches[b].sample(perBatch));
+            samples += perBatch * BATCHES;
+
+            double leader = 0;
+            double runnerUp = 0;
+            for (int b = 0; b < BATCHES; b++)
+            {
+                weight += batches[b].getWeight();
+                weightSquares += batches[b].getWeightSquares();
+                batches[b].mergeInto(counts);
+            }
+            for (int cell = 0; cell < cellCount; cell++)
+            {
+                double count = counts[cell];
+                if (count > leader)
+                {
+                    runnerUp = leader;
+                    leader = count;
+                }
+                else if (count > runnerUp)
+                {
+                    runnerUp = count;
+                }
+            }
+            best = leader;
+
+            // with equal weights this is leader - runnerUp > CLEAR_LEAD * sqrt(leader + runnerUp) in samples;
+            // unequal weights leave fewer effective samples, weight^2 / weightSquares
+            if (weight > 0
+                && leader - runnerUp > CLEAR_LEAD * Math.sqrt((leader + runnerUp) * weightSquares / weight))
+            {
+                break;
+            }
+        }
+
+        // fired squares are never counted, so with no samples every unfired square ties at zero
+        int ties = 0;
+        int pick = -1;
+        for (int cell = 0; cell < cellCount; cell++)
+        {
+            if (counts[cell] == best && !fired.get(cell))
+            {
+                ties++;
+                if (random.nextInt(ties) == 0)
+                {
+                    pick = cell;
+                }
+            }
+        }
+        return pick;
+    }
+
+    public void shotResolved(int cell, ShotResult result, ShipPlacement sunkShip)
+    {
+        fired.set(cell);
+        if (result == ShotResult.MISS)
+        {
+            blocked.set(cell);
+            return;
+        }
+
+        if (hitCount == hits.length)
+        {
+            int[] grown = new int[hits.length * 2];
+            System.arraycopy(hits, 0, grown, 0, hitCount);
+            hits = grown;
+        }
+        hits[hitCount] = cell;
+        hitCount++;
+        unresolved.set(cell);
+
+        if (sunkShip != null)
+        {
+            sunk[sunkShip.getShipId()] = true;
+            for (int j = 0; j < sunkShip.getSize(); j++)
+            {
+                int segment = sunkShip.getSegmentRow(j) * cols + sunkShip.getSegmentCol(j);
+                blocked.set(segment);
+                removeHit(segment);
+            }
+        }
+    }
+
+    /**
+     * Picks the unfired square the solver found most likely to hold a ship, breaking ties at random.
+     * @return the row-major number of the square
+     */
+    private int mostLikely()
+    {
+        double best = -1;
+        int ties = 0;
+        int pick = -1;
+        for (int cell = 0; cell < probabilities.length; cell++)
+        {
+            if (fired.get(cell))
+            {
+                continue;
+            }
+            if (probabilities[cell] > best)
+            {
+                best = probabilities[cell];
+                ties = 1;
+                pick = cell;
+            }
+            else if (probabilities[cell] == best)
+            {
+                ties++;
+                if (random.nextInt(ties) == 0)
+                {
+                    pick = cell;
+                }
+            }
+        }
+        return pick;
+    }
+
+    /**
+     * Forgets a hit once the ship it belongs to has sunk.
+     * @param cell the row-major number of the square
+     */
+    private void removeHit(int cell)
+    {
+        for (int i = 0; i < hitCount; i++)
+        {
+            if (hits[i] == cell)
+            {
+                unresolved.clear(cell);
+                hitCount--;
+                hits[i] = hits[hitCount];
+                return;
+            }
+        }
+    }
+
+    /**
+     * One batch of samples, with its own random number generator, scratch space and counts.
+     */
+    private class Batch
+    {
+        private SplittableRandom random;
+        private long[] occupied;         // blocked squares and the ships of the current sample
+        private long[] hitWords;         // the unresolved hits, one bit per square
+        private int[] placedShips;       // fleet indices of the ships in the current sample
+        private int[] placements;        // and where each lies
+        private int placedCount;
+        private int[] unplaced;          // fleet indices of the ships still to place
+        private int unplacedCount;
+        private int[] choiceShips;       // the choices of a ship over a hit: positions in unplaced
+        private int[] choicePlacements;  // and placements
+        private double[] counts;
+        private double weight;           // total weight of the samples counted
+        private double weightSquares;    // and of their squares
+
+        /**
+         * Constructs a batch for the current game.
+         * @param randomInput the batch's random number generator
+         */
+        public Batch(SplittableRandom randomInput)
+        {
+            random = randomInput;
+            occupied = new long[blocked.getWordCount()];
+            hitWords = new long[blocked.getWordCount()];
+            placedShips = new int[sizes.length];
+            placements = new int[sizes.length];
+            unplaced = new int[sizes.length];
+
+            // a ship over a hit has at most one choice per ship, offset and orientation
+            int choices = 0;
+            for (int i = 0; i < sizes.length; i++)
+            {
+                choices += 2 * sizes[i];
+            }
+            choiceShips = new int[choices];
+            choicePlacements = new int[choices];
+            counts = new double[rows * cols];
+        }
+
+        /**
+         * Starts sampling for a new shot, taking in the squares blocked and hit since the last one.
+         */
+        public void prepare()
+        {
+            for (int w = 0; w < occupied.length; w++)
+            {
+                occupied[w] = blocked.getWord(w);
+                hitWords[w] = unresolved.getWord(w);
+            }
+            placedCount = 0;
+        }
+
+        /**
+         * Draws samples and counts the unfired squares each completed one covers, by its weight.
+         * @param attempts the number of samples to try
+         */
+        public void sample(int attempts)
+        {
+            for (int a = 0; a < attempts; a++)
+            {
+                double w = tryLayout();
+                if (w > 0)
+                {
+                    weight += w;
+                    weightSquares += w * w;
+                    for (int i = 0; i < placedCount; i++)
+                    {
+                        PlacementTable table = tables[placedShips[i]];
+                        int size = table.getShipSize();
+                        int step = table.getStep(placements[i]);
+                        for (int j = 0, cell = table.getStart(placements[i]); j < size; j++, cell += step)
+                        {
+                            if (!fired.get(cell))
+                            {
+                                counts[cell] += w;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets the total weight of the samples counted since the last merge.
+         * @return the total weight
+         */
+        public double getWeight()
+        {
+            return weight;
+        }
+
+        /**
+         * Gets the total of the squared weights of the samples counted since the last merge.
+         * @return the total of the squared weights
+         */
+        public double getWeightSquares()
+        {
+            return weightSquares;
+        }
+
+        /**
+         * Adds this batch's counts to a total and starts counting again from zero.
+         * @param total the merged counts
+         */
+        public void mergeInto(double[] total)
+        {
+            for (int cell = 0; cell < total.length; cell++)
+            {
+                total[cell] += counts[cell];
+                counts[cell] = 0;
+            }
+            weight = 0;
+            weightSquares = 0;
+        }
+
+        /**
+         * Lays out every ship not yet sunk, covering every unresolved hit.
+         * @return the weight of the layout, the product of the number of choices at each step, or 0 if
+         *         the layout could not be completed
+         */
+        private double tryLayout()
+        {
+            // ships never cover a blocked square, so taking them away leaves the blocked squares set
+            for (int i = 0; i < placedCount; i++)
+            {
+                tables[placedShips[i]].unmark(placements[i], occupied);
+            }
+            placedCount = 0;
+            unplacedCount = 0;
+            for (int i = 0; i < sizes.length; i++)
+            {
+                if (!sunk[i])
+                {
+                    unplaced[unplacedCount] = i;
+                    unplacedCount++;
+                }
+            }
+
+            // put a ship through each hit first, since a layout chosen freely rarely explains them all
+            double w = 1;
+            for (int h = 0; h < hitCount; h++)
+            {
+                int hit = hits[h];
+                if ((occupied[hit >>> 6] & (1L << hit)) != 0)
+                {
+                    continue;
+                }
+                int choices = listOver(hit / cols, hit % cols);
+                if (choices == 0)
+                {
+                    return 0;
+                }
+                int pick = random.nextInt(choices);
+                place(unplaced[choiceShips[pick]], choicePlacements[pick]);
+                unplacedCount--;
+                unplaced[choiceShips[pick]] = unplaced[unplacedCount];
+                w *= choices;
+            }
+
+            // listing where the rest fit would cost more than the samples it saves, so each is tried once
+            // at a random placement, the sample being thrown away if it does not fit
+            while (unplacedCount > 0)
+            {
+                PlacementTable table = tables[unplaced[unplacedCount - 1]];
+                int p = random.nextInt(table.getCount());
+                if (!fits(table, p))
+                {
+                    return 0;
+                }
+                place(unplaced[unplacedCount - 1], p);
+                unplacedCount--;
+                w *= table.getCount();
+            }
+            return w;
+        }
+
+        /**
+         * Lists every unplaced ship and placement that fits and covers a square.
+         * @param row the row of the square
+         * @param col the column of the square
+         * @return the number of choices listed
+         */
+        private int listOver(int row, int col)
+        {
+            int choices = 0;
+            for (int k = 0; k < unplacedCount; k++)
+            {
+                PlacementTable table = tables[unplaced[k]];
+                for (int offset = 0; offset < table.getShipSize(); offset++)
+                {
+                    for (int orientation = 0; orientation < 2; orientation++)
+                    {
+                        boolean horizontal = (orientation == 0);
+                        int p = table.indexOf(horizontal ? row : row - offset, horizontal ? col - offset : col,
+                                              horizontal);
+                        if (p >= 0 && fits(table, p))
+                        {
+                            choiceShips[choices] = k;
+                            choicePlacements[choices] = p;
+                            choices++;
+                        }
+                    }
+                }
+            }
+            return choices;
+        }
+
+        /**
+         * Checks whether a placement covers no miss, sunk ship or placed ship, and does not lie wholly
+         * on hits.
+         * @param table the placements of the ship
+         * @param p the placement
+         * @return true if the ship may lie there
+         */
+        private boolean fits(PlacementTable table, int p)
+        {
+            if (!table.fits(p, occupied))
+            {
+                return false;
+            }
+            int start = table.getStart(p);
+            return (hitWords[start >>> 6] & (1L << start)) == 0
+                || table.countCovered(p, hitWords) < table.getShipSize();
+        }
+
+        /**
+         * Adds a ship to the current sample.
+         * @param ship the fleet index of the ship
+         * @param p the placement
+         */
+        private void place(int ship, int p)
+        {
+            tables[ship].mark(p, occupied);
+            placedShips[placedCount] = ship;
+            placements[placedCount] = p;
+            placedCount++;
+        }
+    }
+}
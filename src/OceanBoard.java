@@ -0,0 +1,304 @@
+/**
+ * The model of one player's ocean: where their Battleships are placed and which squares the opponent
+ * has fired on.  Contains no Swing or AWT code so games can be played without a display.  The ocean is
+ * kept as BitBoard layers (every ship segment, hits, misses, and one mask per ship) plus a ShipIndex,
+ * so resolving a shot and detecting a sunk ship take constant time with nothing allocated per shot.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class OceanBoard
+{
+    private int rows;
+    private int cols;
+    private Fleet fleet;
+    private ShipPlacement[] ships;
+    private BitBoard[] shipMasks;   // squares covered by each ship
+    private PlacementTable[] tables;  // where each ship may lie, looked up the first time it is placed
+    private BitBoard shipLayer;     // squares covered by any ship
+    private BitBoard hitLayer;      // squares fired on that struck a ship
+    private BitBoard missLayer;     // squares fired on that were open water
+    private ShipIndex index;        // ship on each square and segments left per ship
+    private int shipsPlaced;
+    private int shipsSunk;
+
+    /**
+     * Constructs an empty ocean for the given fleet.
+     * @param rowsInput number of rows in the ocean
+     * @param colsInput number of columns in the ocean
+     * @param fleetInput the fleet that will be placed in the ocean
+     */
+    public OceanBoard(int rowsInput, int colsInput, Fleet fleetInput)
+    {
+        if (rowsInput <= 0)
+            throw new IllegalArgumentException("rows <= 0");
+        if (colsInput <= 0)
+            throw new IllegalArgumentException("cols <= 0");
+
+        rows = rowsInput;
+        cols = colsInput;
+        fleet = fleetInput;
+        ships = new ShipPlacement[fleet.getShipCount()];
+        shipMasks = new BitBoard[fleet.getShipCount()];
+        tables = new PlacementTable[fleet.getShipCount()];
+        for (int i = 0; i < shipMasks.length; i++)
+        {
+            shipMasks[i] = new BitBoard(rows, cols);
+        }
+        shipLayer = new BitBoard(rows, cols);
+        hitLayer = new BitBoard(rows, cols);
+        missLayer = new BitBoard(rows, cols);
+        index = new ShipIndex(rows * cols, fleet.getShipCount());
+    }
+
+    /**
+     * Gets the number of rows in the ocean.
+     * @return the number of rows
+     */
+    public int getNumRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns in the ocean.
+     * @return the number of columns
+     */
+    public int getNumCols()
+    {
+        return cols;
+    }
+
+    /**
+     * Gets the fleet placed in this ocean.
+     * @return the fleet
+     */
+    public Fleet getFleet()
+    {
+        return fleet;
+    }
+
+    /**
+     * Checks whether a square is inside the ocean.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return true if the square is inside the ocean, false if it is not
+     */
+    public boolean isValid(int row, int col)
+    {
+        return 0 <= row && row < rows && 0 <= col && col < cols;
+    }
+
+    /**
+     * Checks whether a ship of the fleet can be placed without leaving the ocean or overlapping another ship.
+     * @param ship the fleet index of the ship
+     * @param row the row of the top/left segment
+     * @param col the column of the top/left segment
+     * @param horizontal true if the ship extends to the right, false if it extends downward
+     * @return true if the ship fits, false if it does not
+     */
+    public boolean canPlace(int ship, int row, int col, boolean horizontal)
+    {
+        PlacementTable table = tables[ship];
+        if (table == null)
+        {
+            table = PlacementTable.of(rows, cols, fleet.getSize(ship));
+            tables[ship] = table;
+        }
+
+        // a ship of length 1 lies the same either way, and its table lists it as horizontal
+        int p = table.indexOf(row, col, horizontal || table.getShipSize() == 1);
+        return p >= 0 && table.fits(p, shipLayer);
+    }
+
+    /**
+     * Places a ship of the fleet in the ocean.
+     * @param ship the fleet index of the ship
+     * @param row the row of the top/left segment
+     * @param col the column of the top/left segment
+     * @param horizontal true if the ship extends to the right, false if it extends downward
+     * @return the placement of the ship
+     */
+    public ShipPlacement placeShip(int ship, int row, int col, boolean horizontal)
+    {
+        if (ships[ship] != null)
+            throw new IllegalStateException(fleet.getName(ship) + " is already placed.");
+        if (!canPlace(ship, row, col, horizontal))
+            throw new IllegalArgumentException(fleet.getName(ship) + " does not fit at (" + row + ", " + col + ").");
+
+        ships[ship] = new ShipPlacement(ship, row, col, fleet.getSize(ship), horizontal);
+        for (int i = 0; i < ships[ship].getSize(); i++)
+        {
+            int cell = ships[ship].getSegmentRow(i) * cols + ships[ship].getSegmentCol(i);
+            shipMasks[ship].set(cell);
+            shipLayer.set(cell);
+        }
+        index.add(ships[ship], cols);
+        shipsPlaced++;
+        return ships[ship];
+    }
+
+    /**
+     * Gets the placement of a ship of the fleet.
+     * @param ship the fleet index of the ship
+     * @return the placement of the ship, or null if it has not been placed
+     */
+    public ShipPlacement getShip(int ship)
+    {
+        return ships[ship];
+    }
+
+    /**
+     * Checks whether every ship of the fleet has been placed.
+     * @return true if the whole fleet is placed, false if it is not
+     */
+    public boolean isFleetPlaced()
+    {
+        return shipsPlaced == ships.length;
+    }
+
+    /**
+     * Gets the ship occupying a square.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return the placement of the ship on the square, or null if the square is open water
+     */
+    public ShipPlacement getShipAt(int row, int col)
+    {
+        int ship = index.shipAt(row * cols + col);
+        return ship < 0 ? null : ships[ship];
+    }
+
+    /**
+     * Checks whether a square has already been fired on.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return true if the square was fired on, false if it was not
+     */
+    public boolean isFired(int row, int col)
+    {
+        int cell = row * cols + col;
+        return hitLayer.get(cell) || missLayer.get(cell);
+    }
+
+    /**
+     * Fires a shot on a square of the ocean.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return whether the shot missed, hit, or sunk a ship
+     */
+    public ShotResult fire(int row, int col)
+    {
+        if (!isValid(row, col))
+            throw new IllegalArgumentException("Location (" + row + ", " + col + ") is not valid");
+        if (isFired(row, col))
+            throw new IllegalStateException("Location (" + row + ", " + col + ") was already fired on.");
+
+        int cell = row * cols + col;
+        if (!shipLayer.get(cell))
+        {
+            missLayer.set(cell);
+            return ShotResult.MISS;
+        }
+
+        hitLayer.set(cell);
+        if (index.hit(index.shipAt(cell)))
+        {
+            shipsSunk++;
+            return ShotResult.SUNK;
+        }
+        return ShotResult.HIT;
+    }
+
+    /**
+     * Checks whether a ship of the fleet has been sunk.
+     * @param ship the fleet index of the ship
+     * @return true if every segment of the ship was hit, false if it is still afloat
+     */
+    public boolean isSunk(int ship)
+    {
+        return ships[ship] != null && index.getRemaining(ship) == 0;
+    }
+
+    /**
+     * Gets the number of shots that have hit a ship.
+     * @return the number of hits taken by this ocean
+     */
+    public int getHitCount()
+    {
+        return hitLayer.cardinality();
+    }
+
+    /**
+     * Gets the number of ships that have been sunk.
+     * @return the number of sunk ships
+     */
+    public int getSunkCount()
+    {
+        return shipsSunk;
+    }
+
+    /**
+     * Checks whether every ship in the ocean has been sunk.
+     * @return true if the whole fleet is sunk, false if a ship is still afloat
+     */
+    public boolean isFleetSunk()
+    {
+        return isFleetPlaced() && shipsSunk == ships.length;
+    }
+
+    /**
+     * Gets the squares covered by a ship.  The board is owned by the ocean and must not be modified.
+     * @param ship the fleet index of the ship
+     * @return the ship's mask
+     */
+    public BitBoard getShipMask(int ship)
+    {
+        return shipMasks[ship];
+    }
+
+    /**
+     * Gets the squares covered by any ship.  The board is owned by the ocean and must not be modified.
+     * @return the ship layer
+     */
+    public BitBoard getShipLayer()
+    {
+        return shipLayer;
+    }
+
+    /**
+     * Gets the squares fired on that struck a ship.  The board is owned by the ocean and must not be modified.
+     * @return the hit layer
+     */
+    public BitBoard getHitLayer()
+    {
+        return hitLayer;
+    }
+
+    /**
+     * Gets the squares fired on that were open water.  The board is owned by the ocean and must not be modified.
+     * @return the miss layer
+     */
+    public BitBoard getMissLayer()
+    {
+        return missLayer;
+    }
+
+    /**
+     * Removes every ship and shot so the ocean can be reused for another game.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < ships.length; i++)
+        {
+            ships[i] = null;
+            shipMasks[i].clearAll();
+        }
+        shipLayer.clearAll();
+        hitLayer.clearAll();
+        missLayer.clearAll();
+        index.clear();
+        shipsPlaced = 0;
+        shipsSunk = 0;
+    }
+}
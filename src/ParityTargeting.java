@@ -0,0 +1,175 @@
+import java.util.SplittableRandom;
+
+/**
+ * The Computer's original way of firing, except that while no Battleship is being targeted it only
+ * fires on a diagonal lattice of squares.  Every ship afloat is at least as long as the shortest one, so
+ * every ship covers a square with (row + col) % shortest equal to the lattice's phase, and the squares
+ * off the lattice can be skipped until a ship is found.  When the shortest ship afloat sinks, the
+ * lattice is re-tiled with the new spacing, choosing the phase with the fewest squares left to fire on.
+ * <p>
+ * The lattice squares not yet fired on are kept in an array with each square's position, as the open
+ * squares are in HuntTargeting, so a random lattice square is picked and a fired square removed in
+ * constant time; only re-tiling, at most once per ship, visits the whole board.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class ParityTargeting extends HuntTargeting
+{
+    private int rows;
+    private int cols;
+    private int[] sizes;             // ship sizes by fleet index
+    private boolean[] sunk;          // by fleet index
+    private int spacing;             // length of the shortest ship afloat
+    private int[] lattice;           // lattice squares not yet fired on, in lattice[0 .. latticeCount - 1]
+    private int[] latticePosition;   // where each square is in lattice, or -1 if it is not there
+    private int latticeCount;
+
+    public void newGame(int rowsInput, int colsInput, Fleet fleet, SplittableRandom randomInput)
+    {
+        super.newGame(rowsInput, colsInput, fleet, randomInput);
+        rows = rowsInput;
+        cols = colsInput;
+
+        sizes = new int[fleet.getShipCount()];
+        for (int i = 0; i < sizes.length; i++)
+        {
+            sizes[i] = fleet.getSize(i);
+        }
+        sunk = new boolean[sizes.length];
+
+        if (lattice == null || lattice.length != rows * cols)
+        {
+            lattice = new int[rows * cols];
+            latticePosition = new int[rows * cols];
+        }
+        spacing = shortestAfloat();
+        retile();
+    }
+
+    public void shotResolved(int cell, ShotResult result, ShipPlacement sunkShip)
+    {
+        super.shotResolved(cell, result, sunkShip);
+        removeFromLattice(cell);
+
+        if (sunkShip != null)
+        {
+            sunk[sunkShip.getShipId()] = true;
+            int shortest = shortestAfloat();
+            if (shortest != spacing)
+            {
+                spacing = shortest;
+                retile();
+            }
+        }
+    }
+
+    /**
+     * Picks a random lattice square that was not fired on, or any unfired square once the lattice is
+     * used up.
+     * @return the row-major number of a square that was not fired on
+     */
+    protected int huntShot()
+    {
+        if (latticeCount == 0)
+        {
+            return randomUnfired();
+        }
+        return lattice[getRandom().nextInt(latticeCount)];
+    }
+
+    /**
+     * Gets the length of the shortest ship still afloat.
+     * @return the length, or 1 if every ship has sunk
+     */
+    private int shortestAfloat()
+    {
+        int shortest = Integer.MAX_VALUE;
+        for (int i = 0; i < sizes.length; i++)
+        {
+            if (!sunk[i])
+            {
+                shortest = Math.min(shortest, sizes[i]);
+            }
+        }
+        return (shortest == Integer.MAX_VALUE) ? 1 : shortest;
+    }
+
+    /**
+     * Rebuilds the lattice for the current spacing, on the phase with the fewest unfired squares and
+     * at random among tied phases.
+     */
+    private void retile()
+    {
+        BitBoard fired = getFired();
+        int[] unfired = new int[spacing];
+        for (int row = 0; row < rows; row++)
+        {
+            for (int col = 0; col < cols; col++)
+            {
+                if (!fired.get(row * cols + col))
+                {
+                    unfired[(row + col) % spacing]++;
+                }
+            }
+        }
+
+        int phase = 0;
+        int ties = 0;
+        for (int p = 0; p < spacing; p++)
+        {
+            if (unfired[p] < unfired[phase])
+            {
+                phase = p;
+                ties = 1;
+            }
+            else if (unfired[p] == unfired[phase])
+            {
+                ties++;
+                if (getRandom().nextInt(ties) == 0)
+                {
+                    phase = p;
+                }
+            }
+        }
+
+        latticeCount = 0;
+        for (int row = 0; row < rows; row++)
+        {
+            for (int col = 0; col < cols; col++)
+            {
+                int cell = row * cols + col;
+                if ((row + col) % spacing == phase && !fired.get(cell))
+                {
+                    lattice[latticeCount] = cell;
+                    latticePosition[cell] = latticeCount;
+                    latticeCount++;
+                }
+                else
+                {
+                    latticePosition[cell] = -1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes a square out of the lattice if it is there.
+     * @param cell the row-major number of the square
+     */
+    private void removeFromLattice(int cell)
+    {
+        int position = latticePosition[cell];
+        if (position < 0)
+        {
+            return;
+        }
+
+        // swap the last lattice square into the removed square's place
+        latticeCount--;
+        int last = lattice[latticeCount];
+        lattice[position] = last;
+        latticePosition[last] = position;
+        latticePosition[cell] = -1;
+    }
+}
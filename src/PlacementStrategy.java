@@ -0,0 +1,17 @@
+import java.util.SplittableRandom;
+
+/**
+ * Decides where a computer player places its fleet at the start of a game.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public interface PlacementStrategy
+{
+    /**
+     * Places every ship of the ocean's fleet.
+     * @param ocean an empty ocean to place the fleet in
+     * @param random the random number generator for this game
+     */
+    void placeFleet(OceanBoard ocean, SplittableRandom random);
+}
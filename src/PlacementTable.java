@@ -0,0 +1,401 @@
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every placement of a ship of one length on a board of one size, with the bits each placement covers,
+ * so targeting AIs, solvers and validators test placements a word at a time instead of square by square.
+ * Placements are numbered horizontal first, in row-major order of their top/left square, then vertical,
+ * again in row-major order; a ship of length 1 has only horizontal placements.
+ * <p>
+ * The bits a placement covers depend only on its orientation and on where its top/left square falls
+ * within a 64-bit word, so a table stores the covered words and bits for each of the 64 offsets rather
+ * than a mask per placement.  Its size does not grow with the number of squares, but does with the
+ * length of the ship once a placement spans many words: a vertical ship on a board 64 or more columns
+ * wide covers a word per square, so its masks take about 800 bytes per square of the ship's length.  An
+ * orientation with no placements, such as any orientation of a ship longer than the board, stores no
+ * masks at all.  On small boards such as the classic 10x10 every placement lies within two neighbouring
+ * words and is tested with two masks.
+ * Tables never change once built and are shared: each is built the first time it is asked for and
+ * kept from then on.
+ * <p>
+ * DensityTargeting and RandomPlacement keep their own placement arithmetic.  DensityTargeting numbers
+ * the placements of every ship size in one range, so its per-placement counts live in single arrays,
+ * and it only ever walks the placements over one square.  RandomPlacement finds every start of a ship
+ * at once by shifting whole-board masks a word at a time, which a table tested placement by placement
+ * would make slower.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class PlacementTable
+{
+    private static final Map<Long, PlacementTable> tables = new ConcurrentHashMap<Long, PlacementTable>();
+
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final int across;              // horizontal placements per row
+    private final int horizontalCount;
+    private final int count;
+
+    // by orientation (0 horizontal, 1 vertical) and bit offset of the top/left square within its word:
+    // the words the placement covers, relative to that square's word, and the bits covered in each
+    private final int[][][] wordOffsets;
+    private final long[][][] wordMasks;
+
+    // the same bits when every placement lies within two neighbouring words, the usual case, indexed
+    // by orientation * 64 + offset; highMasks is 0 when the placement lies within one word
+    private final boolean twoWords;
+    private final long[] lowMasks;
+    private final long[] highMasks;
+
+    /**
+     * Gets the table for a ship length on a board size, building it the first time it is asked for.
+     * @param rows number of rows on the board
+     * @param cols number of columns on the board
+     * @param size the length of the ship
+     * @return the shared table
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public static PlacementTable of(int rows, int cols, int size)
+    {
+        if (rows <= 0 || cols <= 0 || size <= 0)
+            throw new IllegalArgumentException("not a board and ship: " + rows + "x" + cols + ", " + size);
+
+        Long key = ((long) rows << 42) | ((long) cols << 21) | size;
+        PlacementTable table = tables.get(key);
+        if (table == null)
+        {
+            table = new PlacementTable(rows, cols, size);
+            PlacementTable earlier = tables.putIfAbsent(key, table);
+            if (earlier != null)
+            {
+                table = earlier;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Builds the table for a ship length on a board size.
+     * @param rowsInput number of rows on the board
+     * @param colsInput number of columns on the board
+     * @param sizeInput the length of the ship
+     */
+    private PlacementTable(int rowsInput, int colsInput, int sizeInput)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        size = sizeInput;
+        across = Math.max(0, cols - size + 1);
+        horizontalCount = (cols >= size) ? rows * across : 0;
+        int verticalCount = (rows >= size && size > 1) ? (rows - size + 1) * cols : 0;
+        count = horizontalCount + verticalCount;
+
+        wordOffsets = new int[2][64][];
+        wordMasks = new long[2][64][];
+        for (int orientation = 0; orientation < 2; orientation++)
+        {
+            if ((orientation == 0) ? horizontalCount == 0 : verticalCount == 0)
+            {
+                continue;   // nothing to test, so the masks are left unbuilt
+            }
+
+            // the squares of a placement lie in increasing words, so each word's bits are gathered as
+            // the squares are walked; a ship covers at most one word per square
+            int step = (orientation == 0) ? 1 : cols;
+            int[] offsets = new int[size];
+            long[] masks = new long[size];
+            for (int offset = 0; offset < 64; offset++)
+            {
+                int covered = 0;
+                for (int j = 0, bit = offset; j < size; j++, bit += step)
+                {
+                    int word = bit >>> 6;
+                    if (covered == 0 || offsets[covered - 1] != word)
+                    {
+                        offsets[covered] = word;
+                        masks[covered] = 0;
+                        covered++;
+                    }
+                    masks[covered - 1] |= 1L << bit;
+                }
+                wordOffsets[orientation][offset] = Arrays.copyOf(offsets, covered);
+                wordMasks[orientation][offset] = Arrays.copyOf(masks, covered);
+            }
+        }
+
+        boolean within = true;
+        lowMasks = new long[128];
+        highMasks = new long[128];
+        for (int orientation = 0; orientation < 2; orientation++)
+        {
+            for (int offset = 0; offset < 64 && wordOffsets[orientation][offset] != null; offset++)
+            {
+                int[] offsets = wordOffsets[orientation][offset];
+                long[] masks = wordMasks[orientation][offset];
+                if (offsets[offsets.length - 1] > 1)
+                {
+                    within = false;
+                    continue;
+                }
+                for (int k = 0; k < offsets.length; k++)
+                {
+                    if (offsets[k] == 0)
+                    {
+                        lowMasks[orientation * 64 + offset] = masks[k];
+                    }
+                    else
+                    {
+                        highMasks[orientation * 64 + offset] = masks[k];
+                    }
+                }
+            }
+        }
+        twoWords = within;
+    }
+
+    /**
+     * Gets the number of rows on the board.
+     * @return the number of rows
+     */
+    public int getNumRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns on the board.
+     * @return the number of columns
+     */
+    public int getNumCols()
+    {
+        return cols;
+    }
+
+    /**
+     * Gets the length of the ship.
+     * @return the number of squares the ship covers
+     */
+    public int getShipSize()
+    {
+        return size;
+    }
+
+    /**
+     * Gets the number of placements.
+     * @return the number of placements, horizontal and vertical
+     */
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Gets the number of horizontal placements, which are numbered before the vertical ones.
+     * @return the number of horizontal placements
+     */
+    public int getHorizontalCount()
+    {
+        return horizontalCount;
+    }
+
+    /**
+     * Checks whether a placement lies across a row.
+     * @param p the placement
+     * @return true if the placement is horizontal, false if it is vertical
+     */
+    public boolean isHorizontal(int p)
+    {
+        return p < horizontalCount;
+    }
+
+    /**
+     * Gets the top/left square of a placement.
+     * @param p the placement
+     * @return the row-major number of the square
+     */
+    public int getStart(int p)
+    {
+        if (p < horizontalCount)
+        {
+            return (p / across) * cols + p % across;
+        }
+        return p - horizontalCount;
+    }
+
+    /**
+     * Gets the distance between the squares of a placement.
+     * @param p the placement
+     * @return 1 for a horizontal placement, cols for a vertical one
+     */
+    public int getStep(int p)
+    {
+        return (p < horizontalCount) ? 1 : cols;
+    }
+
+    /**
+     * Finds the placement with a given top/left square and orientation.
+     * @param row the row of the top/left square
+     * @param col the column of the top/left square
+     * @param horizontal true for a placement across a row, false for one down a column
+     * @return the placement, or -1 if the ship would not lie entirely on the board
+     */
+    public int indexOf(int row, int col, boolean horizontal)
+    {
+        if (row < 0 || col < 0)
+        {
+            return -1;
+        }
+        if (horizontal)
+        {
+            if (row >= rows || col >= across)
+            {
+                return -1;
+            }
+            return row * across + col;
+        }
+        if (horizontalCount == count || row > rows - size || col >= cols)
+        {
+            return -1;
+        }
+        return horizontalCount + row * cols + col;
+    }
+
+    /**
+     * Checks whether a placement covers none of a set of squares.
+     * @param p the placement
+     * @param words the squares, one bit per square as in a BitBoard
+     * @return true if no square of the placement is set
+     */
+    public boolean fits(int p, long[] words)
+    {
+        int start = getStart(p);
+        int orientation = (p < horizontalCount) ? 0 : 1;
+        int base = start >>> 6;
+        if (twoWords)
+        {
+            int o = (orientation << 6) | (start & 63);
+            long covered = words[base] & lowMasks[o];
+            if (highMasks[o] != 0)
+            {
+                covered |= words[base + 1] & highMasks[o];
+            }
+            return covered == 0;
+        }
+
+        int[] offsets = wordOffsets[orientation][start & 63];
+        long[] masks = wordMasks[orientation][start & 63];
+        for (int k = 0; k < offsets.length; k++)
+        {
+            if ((words[base + offsets[k]] & masks[k]) != 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a placement covers none of a set of squares.
+     * @param p the placement
+     * @param board the squares
+     * @return true if no square of the placement is on the board
+     */
+    public boolean fits(int p, BitBoard board)
+    {
+        int start = getStart(p);
+        int orientation = (p < horizontalCount) ? 0 : 1;
+        int[] offsets = wordOffsets[orientation][start & 63];
+        long[] masks = wordMasks[orientation][start & 63];
+        int base = start >>> 6;
+        for (int k = 0; k < offsets.length; k++)
+        {
+            if ((board.getWord(base + offsets[k]) & masks[k]) != 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the squares of a set a placement covers.
+     * @param p the placement
+     * @param words the squares, one bit per square as in a BitBoard
+     * @return the number of the placement's squares that are set
+     */
+    public int countCovered(int p, long[] words)
+    {
+        int start = getStart(p);
+        int orientation = (p < horizontalCount) ? 0 : 1;
+        int[] offsets = wordOffsets[orientation][start & 63];
+        long[] masks = wordMasks[orientation][start & 63];
+        int base = start >>> 6;
+        int covered = 0;
+        for (int k = 0; k < offsets.length; k++)
+        {
+            covered += Long.bitCount(words[base + offsets[k]] & masks[k]);
+        }
+        return covered;
+    }
+
+    /**
+     * Sets the squares of a placement.
+     * @param p the placement
+     * @param words the squares, one bit per square as in a BitBoard
+     */
+    public void mark(int p, long[] words)
+    {
+        int start = getStart(p);
+        int orientation = (p < horizontalCount) ? 0 : 1;
+        int[] offsets = wordOffsets[orientation][start & 63];
+        long[] masks = wordMasks[orientation][start & 63];
+        int base = start >>> 6;
+        for (int k = 0; k < offsets.length; k++)
+        {
+            words[base + offsets[k]] |= masks[k];
+        }
+    }
+
+    /**
+     * Clears the squares of a placement.
+     * @param p the placement
+     * @param words the squares, one bit per square as in a BitBoard
+     */
+    public void unmark(int p, long[] words)
+    {
+        int start = getStart(p);
+        int orientation = (p < horizontalCount) ? 0 : 1;
+        int[] offsets = wordOffsets[orientation][start & 63];
+        long[] masks = wordMasks[orientation][start & 63];
+        int base = start >>> 6;
+        for (int k = 0; k < offsets.length; k++)
+        {
+            words[base + offsets[k]] &= ~masks[k];
+        }
+    }
+
+    /**
+     * Lists the placements that avoid one set of squares and, optionally, touch another: for instance
+     * the placements clear of misses and sunk ships that could explain a hit.
+     * @param avoid squares no listed placement may cover
+     * @param touch squares each listed placement must cover at least one of, or null for no such rule
+     * @param out receives the placements in increasing order; must hold getCount() placements
+     * @return the number of placements listed
+     */
+    public int filter(BitBoard avoid, BitBoard touch, int[] out)
+    {
+        int listed = 0;
+        for (int p = 0; p < count; p++)
+        {
+            if (fits(p, avoid) && (touch == null || !fits(p, touch)))
+            {
+                out[listed] = p;
+                listed++;
+            }
+        }
+        return listed;
+    }
+}
@@ -0,0 +1,274 @@
+import java.util.SplittableRandom;
+
+/**
+ * Places a fleet at random without trial and error, each ship, largest first, uniformly among its legal
+ * starts given the ships already placed.  That is not the same as picking uniformly among whole
+ * layouts: a layout whose early ships leave the later ones little room is as likely as one that leaves
+ * them plenty, so crowded layouts come up a little more often than they would by chance.
+ * <p>
+ * The board is kept as bitmasks in row-major order, one bit per square.  For each ship the squares
+ * where it could start are found a word at a time by shifting the occupied squares over the ship's
+ * length and masking out starts that would run off the board, so every remaining bit is a legal
+ * placement.  One placement is then picked by counting set bits, and the ship is marked as occupied.
+ * Works for any fleet and board size; only a fleet too crowded to finish is started over.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class RandomPlacement implements PlacementStrategy
+{
+    private static final int MAX_ATTEMPTS = 1000;
+
+    // board geometry, rebuilt only when the board or ship sizes change
+    private int rows;
+    private int cols;
+    private int wordCount;
+    private int maxSize;
+    private long[][] horizontalStarts;   // squares a horizontal ship of each size fits from on an empty board
+    private long[][] verticalStarts;     // squares a vertical ship of each size fits from on an empty board
+
+    // scratch space for one fleet
+    private long[] occupied;
+    private long[] horizontalFits;
+    private long[] verticalFits;
+    private int[] order;                 // fleet indices, largest ship first
+    private int[] startCell;
+    private boolean[] horizontal;
+
+    public void placeFleet(OceanBoard ocean, SplittableRandom random)
+    {
+        Fleet fleet = ocean.getFleet();
+        prepare(ocean.getNumRows(), ocean.getNumCols(), fleet);
+
+        int attempts = 0;
+        while (!tryPlaceFleet(fleet, random))
+        {
+            attempts++;
+            if (attempts == MAX_ATTEMPTS)
+                throw new IllegalStateException("fleet does not fit on a " + rows + "x" + cols + " board");
+        }
+
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            ocean.placeShip(i, startCell[i] / cols, startCell[i] % cols, horizontal[i]);
+        }
+    }
+
+    /**
+     * Picks a placement for every ship of the fleet in turn.
+     * @param fleet the fleet to place
+     * @param random the random number generator for this game
+     * @return true if every ship was placed, false if a ship had nowhere left to go
+     */
+    private boolean tryPlaceFleet(Fleet fleet, SplittableRandom random)
+    {
+        for (int w = 0; w < wordCount; w++)
+        {
+            occupied[w] = 0;
+        }
+
+        for (int i = 0; i < order.length; i++)
+        {
+            int ship = order[i];
+            int size = fleet.getSize(ship);
+
+            int horizontalCount = findFits(horizontalFits, horizontalStarts[size], size, 1);
+            int verticalCount = 0;
+            if (size > 1)   // a single square has only one orientation
+            {
+                verticalCount = findFits(verticalFits, verticalStarts[size], size, cols);
+            }
+            if (horizontalCount + verticalCount == 0)
+            {
+                return false;
+            }
+
+            int pick = random.nextInt(horizontalCount + verticalCount);
+            int step;
+            if (pick < horizontalCount)
+            {
+                horizontal[ship] = true;
+                startCell[ship] = selectBit(horizontalFits, pick);
+                step = 1;
+            }
+            else
+            {
+                horizontal[ship] = false;
+                startCell[ship] = selectBit(verticalFits, pick - horizontalCount);
+                step = cols;
+            }
+
+            for (int j = 0, cell = startCell[ship]; j < size; j++, cell += step)
+            {
+                occupied[cell >>> 6] |= 1L << cell;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds every square a ship could start from without covering an occupied square.
+     * @param fits receives the legal starting squares
+     * @param starts the starting squares that keep the ship on the board
+     * @param size the length of the ship
+     * @param step the distance between the ship's squares: 1 across a row, cols down a column
+     * @return the number of legal starting squares
+     */
+    private int findFits(long[] fits, long[] starts, int size, int step)
+    {
+        int count = 0;
+        for (int w = 0; w < wordCount; w++)
+        {
+            // a start is blocked if any of the squares it covers is occupied
+            long blocked = 0;
+            for (int j = 0, shift = 0; j < size; j++, shift += step)
+            {
+                blocked |= shiftedWord(occupied, w, shift);
+            }
+            fits[w] = starts[w] & ~blocked;
+            count += Long.bitCount(fits[w]);
+        }
+        return count;
+    }
+
+    /**
+     * Gets a word of a bitmask as if every bit had been moved down by some number of squares, so bit c
+     * of the result is bit c + shift of the mask.
+     * @param bits the bitmask
+     * @param w the index of the word
+     * @param shift the number of squares to move down by
+     * @return the shifted word
+     */
+    private long shiftedWord(long[] bits, int w, int shift)
+    {
+        int from = w + (shift >>> 6);
+        int offset = shift & 63;
+        if (from >= wordCount)
+        {
+            return 0;
+        }
+
+        long word = bits[from] >>> offset;
+        if (offset != 0 && from + 1 < wordCount)
+        {
+            word |= bits[from + 1] << (64 - offset);
+        }
+        return word;
+    }
+
+    /**
+     * Finds the square of the n-th set bit of a bitmask, counting from zero.
+     * @param bits the bitmask
+     * @param n the number of set bits to skip
+     * @return the square of the bit
+     */
+    private int selectBit(long[] bits, int n)
+    {
+        int w = 0;
+        int count = Long.bitCount(bits[0]);
+        while (n >= count)
+        {
+            n -= count;
+            w++;
+            count = Long.bitCount(bits[w]);
+        }
+
+        // halve the word down to the byte holding the bit, then drop the lower set bits of that byte
+        long word = bits[w];
+        int bit = w << 6;
+        for (int half = 32; half >= 8; half >>>= 1)
+        {
+            int low = Long.bitCount(word & ((1L << half) - 1));
+            if (n >= low)
+            {
+                n -= low;
+                word >>>= half;
+                bit += half;
+            }
+        }
+        for (int j = 0; j < n; j++)
+        {
+            word &= word - 1;
+        }
+        return bit + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Builds the starting masks for the board and orders the fleet, reusing what is already built.
+     * @param rowsInput number of rows in the ocean
+     * @param colsInput number of columns in the ocean
+     * @param fleet the fleet to place
+     */
+    private void prepare(int rowsInput, int colsInput, Fleet fleet)
+    {
+        int fleetMax = 0;
+        for (int i = 0; i < fleet.getShipCount(); i++)
+        {
+            fleetMax = Math.max(fleetMax, fleet.getSize(i));
+        }
+
+        if (occupied == null || rowsInput != rows || colsInput != cols || fleetMax > maxSize)
+        {
+            buildStarts(rowsInput, colsInput, fleetMax);
+        }
+
+        if (order == null || order.length != fleet.getShipCount())
+        {
+            order = new int[fleet.getShipCount()];
+            startCell = new int[order.length];
+            horizontal = new boolean[order.length];
+        }
+
+        // insertion sort, largest ship first, so the hardest ships go on the emptiest board
+        for (int i = 0; i < order.length; i++)
+        {
+            int j = i;
+            while (j > 0 && fleet.getSize(order[j - 1]) < fleet.getSize(i))
+            {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+    }
+
+    /**
+     * Marks, for every ship size up to the largest, the squares a ship of that size can start from
+     * without running off the board.
+     * @param rowsInput number of rows in the ocean
+     * @param colsInput number of columns in the ocean
+     * @param largest the largest ship size
+     */
+    private void buildStarts(int rowsInput, int colsInput, int largest)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        wordCount = (rows * cols + 63) >>> 6;
+        maxSize = largest;
+
+        horizontalStarts = new long[maxSize + 1][wordCount];
+        verticalStarts = new long[maxSize + 1][wordCount];
+        for (int size = 1; size <= maxSize; size++)
+        {
+            for (int r = 0; r < rows; r++)
+            {
+                for (int c = 0; c < cols; c++)
+                {
+                    int cell = r * cols + c;
+                    if (c + size <= cols)
+                    {
+                        horizontalStarts[size][cell >>> 6] |= 1L << cell;
+                    }
+                    if (r + size <= rows)
+                    {
+                        verticalStarts[size][cell >>> 6] |= 1L << cell;
+                    }
+                }
+            }
+        }
+
+        occupied = new long[wordCount];
+        horizontalFits = new long[wordCount];
+        verticalFits = new long[wordCount];
+    }
+}
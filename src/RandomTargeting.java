@@ -0,0 +1,48 @@
+import java.util.SplittableRandom;
+
+/**
+ * Fires on a uniformly random square that was not fired on before, ignoring hits.  Useful as a
+ * baseline when comparing other strategies.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class RandomTargeting implements TargetingStrategy
+{
+    private int[] open;      // squares not yet fired on, in open[0 .. openCount - 1]
+    private int openCount;
+    private SplittableRandom random;
+
+    public void newGame(int rows, int cols, Fleet fleet, SplittableRandom randomInput)
+    {
+        if (open == null || open.length != rows * cols)
+        {
+            open = new int[rows * cols];
+        }
+        for (int i = 0; i < open.length; i++)
+        {
+            open[i] = i;
+        }
+        openCount = open.length;
+        random = randomInput;
+    }
+
+    /**
+     * Picks a random open square and removes it by swapping the last open square into its place.
+     * @return the row-major number of the square
+     */
+    public int nextShot()
+    {
+        int pick = random.nextInt(openCount);
+        int cell = open[pick];
+        openCount--;
+        open[pick] = open[openCount];
+        open[openCount] = cell;
+        return cell;
+    }
+
+    public void shotResolved(int cell, ShotResult result, ShipPlacement sunkShip)
+    {
+        // the outcome does not change where a random shooter fires
+    }
+}
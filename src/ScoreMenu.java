@@ -2,11 +2,17 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.IOException;
 import java.net.URL;
 
 import javax.swing.ImageIcon;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 
 /**
@@ -26,16 +32,19 @@ public class ScoreMenu extends JFrame
 	private JLabel player1Score;
 	private JLabel player2Label;
 	private JLabel player2Score;
+	private JButton saveButton;
 	
 	// screen resolution variables
 	Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
 	int scoreWidth = 300;
-	int scoreHeight = 175;
+	int scoreHeight = 220;
 	
 	/**
-	 * Constructs a score menu to display current score between players during the play session.
+	 * Constructs a score menu to display current score between players during the play session, with a
+	 * button to save the game.
+	 * @param game the game whose scores are displayed
 	 */
-	public ScoreMenu()
+	public ScoreMenu(Game game)
 	{
 		this.setTitle("Battleship");
 		this.setResizable(false);
@@ -93,12 +102,38 @@ public class ScoreMenu extends JFrame
 		player2Score.setFont(new Font("SansSerif",1,16));
 		player2Score.setVisible(true);
 		
+		// Save Button
+		saveButton = new JButton("Save Game");
+		saveButton.setBounds(100,172,100,35);
+		saveButton.setBackground(new Color(214,217,223));
+		saveButton.setForeground(new Color(0,0,0));
+		saveButton.setEnabled(true);
+		saveButton.setFont(new Font("sansserif",0,12));
+		saveButton.setVisible(true);
+		saveButton.addActionListener(new ActionListener()
+		{
+		    @Override
+		    public void actionPerformed(ActionEvent event) 
+		    {
+		    	JFileChooser chooser = new JFileChooser();
+		    	if (chooser.showSaveDialog(ScoreMenu.this) == JFileChooser.APPROVE_OPTION)
+		    	{
+		    		try {
+		    			game.saveGame(chooser.getSelectedFile());
+		    		} catch (IOException e) {
+		    			JOptionPane.showMessageDialog(ScoreMenu.this, "The game could not be saved: " + e.getMessage());
+		    		}
+		    	}
+		    }
+		});
+		
 		//adding components to contentPane panel
 		contentPane.add(titleLabel);
 		contentPane.add(player1Label);
 		contentPane.add(player1Score);
 		contentPane.add(player2Label);
 		contentPane.add(player2Score);
+		contentPane.add(saveButton);
 		
 		//adding panel to JFrame and setting of window position and close operation
 		this.add(contentPane);
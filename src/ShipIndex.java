@@ -0,0 +1,108 @@
+/**
+ * Maps every square of an ocean to the ship covering it and counts the segments each ship has left.
+ * Filled in once when ships are placed, it answers "which ship did this shot hit" and "did that sink it"
+ * in constant time no matter how many ships or squares there are.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class ShipIndex
+{
+    private static final short WATER = -1;
+
+    private short[] shipAtCell;   // fleet index of the ship on each square, or WATER
+    private int[] remaining;      // segments not yet hit, per ship
+    private int afloat;           // ships with at least one segment not yet hit
+
+    /**
+     * Constructs an index with every square open water.
+     * @param cellCount the number of squares in the ocean
+     * @param shipCount the number of ships in the fleet
+     */
+    public ShipIndex(int cellCount, int shipCount)
+    {
+        if (shipCount > Short.MAX_VALUE)
+            throw new IllegalArgumentException("too many ships: " + shipCount);
+
+        shipAtCell = new short[cellCount];
+        remaining = new int[shipCount];
+        clear();
+    }
+
+    /**
+     * Records a ship as covering the given squares.
+     * @param placement the ship's placement
+     * @param cols the number of columns in the ocean
+     */
+    public void add(ShipPlacement placement, int cols)
+    {
+        int ship = placement.getShipId();
+        for (int i = 0; i < placement.getSize(); i++)
+        {
+            shipAtCell[placement.getSegmentRow(i) * cols + placement.getSegmentCol(i)] = (short) ship;
+        }
+        remaining[ship] = placement.getSize();
+        afloat++;
+    }
+
+    /**
+     * Gets the ship covering a square.
+     * @param cell the row-major number of the square
+     * @return the fleet index of the ship, or -1 if the square is open water
+     */
+    public int shipAt(int cell)
+    {
+        return shipAtCell[cell];
+    }
+
+    /**
+     * Records a hit on a ship.  Must only be called once per segment.
+     * @param ship the fleet index of the ship that was hit
+     * @return true if that was the ship's last segment, false if it is still afloat
+     */
+    public boolean hit(int ship)
+    {
+        remaining[ship]--;
+        if (remaining[ship] == 0)
+        {
+            afloat--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of segments of a ship that have not been hit.
+     * @param ship the fleet index of the ship
+     * @return the ship's remaining segments
+     */
+    public int getRemaining(int ship)
+    {
+        return remaining[ship];
+    }
+
+    /**
+     * Gets the number of placed ships that are still afloat.
+     * @return the number of ships with a segment left
+     */
+    public int getAfloatCount()
+    {
+        return afloat;
+    }
+
+    /**
+     * Resets every square to open water and forgets every ship.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < shipAtCell.length; i++)
+        {
+            shipAtCell[i] = WATER;
+        }
+        for (int i = 0; i < remaining.length; i++)
+        {
+            remaining[i] = 0;
+        }
+        afloat = 0;
+    }
+}
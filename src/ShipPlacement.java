@@ -0,0 +1,121 @@
+/**
+ * The position of a single Battleship on a player's ocean.  Placements never change once the ship
+ * is placed.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class ShipPlacement
+{
+    private int shipId;
+    private int row;
+    private int col;
+    private int size;
+    private boolean horizontal;
+
+    /**
+     * Constructs a placement starting at the top/left segment of the ship.
+     * @param shipIdInput the index of the ship in its fleet
+     * @param rowInput the row of the top/left segment
+     * @param colInput the column of the top/left segment
+     * @param sizeInput the size of the ship
+     * @param horizontalInput true if the ship extends to the right, false if it extends downward
+     */
+    public ShipPlacement(int shipIdInput, int rowInput, int colInput, int sizeInput, boolean horizontalInput)
+    {
+        shipId = shipIdInput;
+        row = rowInput;
+        col = colInput;
+        size = sizeInput;
+        horizontal = horizontalInput;
+    }
+
+    /**
+     * Gets the index of the ship in its fleet.
+     * @return the ship's fleet index
+     */
+    public int getShipId()
+    {
+        return shipId;
+    }
+
+    /**
+     * Gets the row of the top/left segment.
+     * @return the starting row
+     */
+    public int getRow()
+    {
+        return row;
+    }
+
+    /**
+     * Gets the column of the top/left segment.
+     * @return the starting column
+     */
+    public int getCol()
+    {
+        return col;
+    }
+
+    /**
+     * Gets the size of the ship.
+     * @return the number of segments in the ship
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Gets whether the ship extends to the right or downward.
+     * @return true if the ship is horizontal, false if it is vertical
+     */
+    public boolean isHorizontal()
+    {
+        return horizontal;
+    }
+
+    /**
+     * Gets the row of a segment of the ship.
+     * @param segment the segment index, starting at the top/left
+     * @return the row of the segment
+     */
+    public int getSegmentRow(int segment)
+    {
+        return horizontal ? row : row + segment;
+    }
+
+    /**
+     * Gets the column of a segment of the ship.
+     * @param segment the segment index, starting at the top/left
+     * @return the column of the segment
+     */
+    public int getSegmentCol(int segment)
+    {
+        return horizontal ? col + segment : col;
+    }
+
+    /**
+     * Checks whether the ship covers a given square.
+     * @param rowInput the row of the square
+     * @param colInput the column of the square
+     * @return true if one of the ship's segments is on the square, false if it is not
+     */
+    public boolean covers(int rowInput, int colInput)
+    {
+        if (horizontal)
+        {
+            return rowInput == row && colInput >= col && colInput < col + size;
+        }
+        return colInput == col && rowInput >= row && rowInput < row + size;
+    }
+
+    /**
+     * Creates a string that describes this placement.
+     * @return a string with the ship id, starting square, size and orientation
+     */
+    public String toString()
+    {
+        return "ship " + shipId + " at (" + row + ", " + col + ") size " + size + (horizontal ? " horizontal" : " vertical");
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * The squares one player has fired on, both as a set and in the order they were fired.  The set is a
+ * BitBoard, so checking whether a square was already fired on takes constant time however long the
+ * game runs, and the ordered list lets a game be replayed shot by shot.  The list starts small and
+ * grows with the number of shots, but the set is sized to the ocean, a bit per square, from the start.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class ShotHistory
+{
+    private BitBoard fired;
+    private int[] shots;     // row-major squares in the order they were fired
+    private int shotCount;
+
+    /**
+     * Constructs an empty history for an ocean of the given size.
+     * @param rows number of rows in the ocean
+     * @param cols number of columns in the ocean
+     */
+    public ShotHistory(int rows, int cols)
+    {
+        fired = new BitBoard(rows, cols);
+        shots = new int[Math.min(64, rows * cols)];
+    }
+
+    /**
+     * Records a shot on a square.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @throws IllegalArgumentException if the square is not on the ocean
+     * @throws IllegalStateException if the square was already fired on
+     */
+    public void record(int row, int col)
+    {
+        if (row < 0 || row >= fired.getNumRows() || col < 0 || col >= fired.getNumCols())
+            throw new IllegalArgumentException("(" + row + ", " + col + ") is not on the ocean");
+
+        int cell = fired.cellOf(row, col);
+        if (fired.get(cell))
+            throw new IllegalStateException("(" + row + ", " + col + ") was already fired on");
+
+        if (shotCount == shots.length)
+        {
+            int[] grown = new int[Math.min(shots.length * 2, fired.getCellCount())];
+            System.arraycopy(shots, 0, grown, 0, shotCount);
+            shots = grown;
+        }
+        shots[shotCount] = cell;
+        shotCount++;
+        fired.set(cell);
+    }
+
+    /**
+     * Checks whether a square was fired on.
+     * @param row the row of the square
+     * @param col the column of the square
+     * @return true if the square was fired on, false if it was not
+     */
+    public boolean wasFired(int row, int col)
+    {
+        return fired.get(row, col);
+    }
+
+    /**
+     * Checks whether a square was fired on.
+     * @param cell the row-major number of the square
+     * @return true if the square was fired on, false if it was not
+     */
+    public boolean wasFired(int cell)
+    {
+        return fired.get(cell);
+    }
+
+    /**
+     * Gets the number of shots fired.
+     * @return the number of shots
+     */
+    public int getShotCount()
+    {
+        return shotCount;
+    }
+
+    /**
+     * Gets the square of a shot.
+     * @param i the shot, counting from 0 for the first shot of the game
+     * @return the row-major number of the square fired on
+     */
+    public int getShot(int i)
+    {
+        if (i < 0 || i >= shotCount)
+            throw new IndexOutOfBoundsException("shot " + i + " of " + shotCount);
+        return shots[i];
+    }
+
+    /**
+     * Gets the row of a shot.
+     * @param i the shot, counting from 0 for the first shot of the game
+     * @return the row of the square fired on
+     */
+    public int getShotRow(int i)
+    {
+        return getShot(i) / fired.getNumCols();
+    }
+
+    /**
+     * Gets the column of a shot.
+     * @param i the shot, counting from 0 for the first shot of the game
+     * @return the column of the square fired on
+     */
+    public int getShotCol(int i)
+    {
+        return getShot(i) % fired.getNumCols();
+    }
+
+    /**
+     * Gets the squares fired on.
+     * @return the fired squares; must not be changed
+     */
+    public BitBoard getFired()
+    {
+        return fired;
+    }
+
+    /**
+     * Forgets every shot, in time proportional to the number of shots rather than the ocean's size.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < shotCount; i++)
+        {
+            fired.clear(shots[i]);
+        }
+        shotCount = 0;
+    }
+}
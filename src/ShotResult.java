@@ -0,0 +1,26 @@
+/**
+ * The outcome of a single shot fired at a player's ocean.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public enum ShotResult
+{
+    /** The shot landed in open water. */
+    MISS,
+
+    /** The shot struck a Battleship that is still afloat. */
+    HIT,
+
+    /** The shot struck the last remaining segment of a Battleship. */
+    SUNK;
+
+    /**
+     * Checks whether the shot struck a Battleship.
+     * @return true if the shot was a hit or sunk a Battleship, false if it missed
+     */
+    public boolean isHit()
+    {
+        return this != MISS;
+    }
+}
@@ -0,0 +1,35 @@
+import java.util.SplittableRandom;
+
+/**
+ * Decides where a computer player fires.  A strategy only learns about the opponent's ocean through the
+ * outcome of its own shots, so strategies can be swapped per game and played against each other.
+ * Squares are given by their row-major number (row * cols + col).
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public interface TargetingStrategy
+{
+    /**
+     * Forgets any previous game and prepares to fire on a new ocean.
+     * @param rows number of rows in the opponent's ocean
+     * @param cols number of columns in the opponent's ocean
+     * @param fleet the opponent's fleet
+     * @param random the random number generator for this game
+     */
+    void newGame(int rows, int cols, Fleet fleet, SplittableRandom random);
+
+    /**
+     * Picks the next square to fire on.  Never picks a square that was already fired on.
+     * @return the row-major number of the square
+     */
+    int nextShot();
+
+    /**
+     * Tells the strategy the outcome of its last shot.
+     * @param cell the row-major number of the square fired on
+     * @param result whether the shot missed, hit, or sunk a ship
+     * @param sunkShip the placement of the sunk ship (revealed when it sinks), or null if no ship was sunk
+     */
+    void shotResolved(int cell, ShotResult result, ShipPlacement sunkShip);
+}
@@ -0,0 +1,191 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays many independent headless games between two computer players on a fork-join pool.  The games
+ * are split into leaf tasks of at most 256 games, each played on one thread with its own strategies and
+ * Match, and every game gets its own generator seeded from the tournament seed and the game number, so
+ * games share no state, scale with the number of cores, and give the same tally for the same seed
+ * however they are split between threads.  The two players swap who fires first from game to game.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class Tournament
+{
+    private static final int GAMES_PER_TASK = 256;
+
+    private int rows;
+    private int cols;
+    private Fleet fleet;
+    private Supplier<PlacementStrategy> placement1;
+    private Supplier<TargetingStrategy> targeting1;
+    private Supplier<PlacementStrategy> placement2;
+    private Supplier<TargetingStrategy> targeting2;
+
+    /**
+     * Constructs a tournament between two players.  Each supplier is called once per leaf task, a run of
+     * at most 256 games, so a tournament of n games calls it at least n / 256 times; it must return a new
+     * strategy object every time.
+     * @param rowsInput number of rows in each ocean
+     * @param colsInput number of columns in each ocean
+     * @param fleetInput the fleet each player places
+     * @param placement1Input creates the first player's placement strategy
+     * @param targeting1Input creates the first player's targeting strategy
+     * @param placement2Input creates the second player's placement strategy
+     * @param targeting2Input creates the second player's targeting strategy
+     */
+    public Tournament(int rowsInput, int colsInput, Fleet fleetInput,
+                      Supplier<PlacementStrategy> placement1Input, Supplier<TargetingStrategy> targeting1Input,
+                      Supplier<PlacementStrategy> placement2Input, Supplier<TargetingStrategy> targeting2Input)
+    {
+        rows = rowsInput;
+        cols = colsInput;
+        fleet = fleetInput;
+        placement1 = placement1Input;
+        targeting1 = targeting1Input;
+        placement2 = placement2Input;
+        targeting2 = targeting2Input;
+    }
+
+    /**
+     * Plays the games on the common fork-join pool.
+     * @param games the number of games to play
+     * @param seed the seed every game's generator is derived from
+     * @return the tally of the games
+     */
+    public TournamentResult run(int games, long seed)
+    {
+        return run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the games on the given pool.
+     * @param games the number of games to play
+     * @param seed the seed every game's generator is derived from
+     * @param pool the pool to play the games on
+     * @return the tally of the games
+     */
+    public TournamentResult run(int games, long seed, ForkJoinPool pool)
+    {
+        return pool.invoke(new Games(0, games, seed));
+    }
+
+    /**
+     * Creates the generator for one game of a tournament.
+     * @param seed the tournament seed
+     * @param game the game number
+     * @return the game's generator
+     */
+    public static SplittableRandom gameRandom(long seed, int game)
+    {
+        // the golden-ratio step spreads consecutive games across the seed space
+        return new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until it is at most GAMES_PER_TASK games long.
+     */
+    private class Games extends RecursiveTask<TournamentResult>
+    {
+        private static final long serialVersionUID = 5712285893211620342L;
+
+        private int first;
+        private int end;
+        private long seed;
+
+        Games(int firstInput, int endInput, long seedInput)
+        {
+            first = firstInput;
+            end = endInput;
+            seed = seedInput;
+        }
+
+        protected TournamentResult compute()
+        {
+            if (end - first > GAMES_PER_TASK)
+            {
+                int middle = (first + end) >>> 1;
+                Games left = new Games(first, middle, seed);
+                left.fork();
+                TournamentResult result = new Games(middle, end, seed).compute();
+                result.merge(left.join());
+                return result;
+            }
+
+            Match match = new Match(rows, cols, fleet);
+            PlacementStrategy place1 = placement1.get();
+            TargetingStrategy aim1 = targeting1.get();
+            PlacementStrategy place2 = placement2.get();
+            TargetingStrategy aim2 = targeting2.get();
+            TournamentResult result = new TournamentResult(rows * cols);
+
+            for (int game = first; game < end; game++)
+            {
+                SplittableRandom random = gameRandom(seed, game);
+                boolean firstFiresFirst = game % 2 == 0;
+
+                // the engine numbers players by who fires first in this game
+                int engineWinner;
+                if (firstFiresFirst)
+                {
+                    engineWinner = match.play(place1, aim1, place2, aim2, random);
+                }
+                else
+                {
+                    engineWinner = match.play(place2, aim2, place1, aim1, random);
+                }
+
+                int winner = firstFiresFirst ? engineWinner - 1 : 2 - engineWinner;
+                result.record(winner, match.getEngine().getShotCount(engineWinner));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the report.
+     * @param args number of games, first targeting strategy, second targeting strategy, seed, board size
+     *             (defaults: 100000 density hunt 1 10)
+     */
+    public static void main(String[] args)
+    {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        String name1 = args.length > 1 ? args[1] : "density";
+        String name2 = args.length > 2 ? args[2] : "hunt";
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        int size = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        Tournament tournament = new Tournament(size, size, Fleet.classic(5),
+                () -> new RandomPlacement(), targetingNamed(name1),
+                () -> new RandomPlacement(), targetingNamed(name2));
+
+        long start = System.nanoTime();
+        TournamentResult result = tournament.run(games, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.print(result.report(name1, name2));
+        System.out.printf("%.2f s, %.0f games/s on %d threads%n", seconds, games / seconds,
+                ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * Looks up a targeting strategy by its command line name.
+     * @param name the name of the strategy
+     * @return creates the strategy
+     */
+    static Supplier<TargetingStrategy> targetingNamed(String name)
+    {
+        switch (name)
+        {
+            case "hunt":    return () -> new HuntTargeting();
+            case "parity":  return () -> new ParityTargeting();
+            case "random":  return () -> new RandomTargeting();
+            case "density": return () -> new DensityTargeting();
+            case "montecarlo": return () -> new MonteCarloTargeting();
+            default:        throw new IllegalArgumentException("unknown strategy: " + name);
+        }
+    }
+}
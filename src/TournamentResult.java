@@ -0,0 +1,132 @@
+/**
+ * The tally of a tournament between two computer players: how often each won and how many shots each
+ * needed to sink the opposing fleet in the games it won.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class TournamentResult
+{
+    private int games;
+    private int[] wins = new int[2];
+    private long[] winningShots = new long[2];
+    private int[][] shotHistogram;   // games won by each side, indexed by the shots it took
+
+    /**
+     * Constructs an empty tally for games on oceans with the given number of squares.
+     * @param cellCount number of squares in each ocean (the most shots a game can take)
+     */
+    public TournamentResult(int cellCount)
+    {
+        shotHistogram = new int[2][cellCount + 1];
+    }
+
+    /**
+     * Records the outcome of one game.
+     * @param winner the side that won (0 for the first player, 1 for the second)
+     * @param shots the number of shots the winner fired
+     */
+    public void record(int winner, int shots)
+    {
+        games++;
+        wins[winner]++;
+        winningShots[winner] += shots;
+        shotHistogram[winner][shots]++;
+    }
+
+    /**
+     * Adds another tally for oceans of the same size into this one.
+     * @param other the tally to add
+     */
+    public void merge(TournamentResult other)
+    {
+        games += other.games;
+        for (int side = 0; side < 2; side++)
+        {
+            wins[side] += other.wins[side];
+            winningShots[side] += other.winningShots[side];
+            for (int shots = 0; shots < shotHistogram[side].length; shots++)
+            {
+                shotHistogram[side][shots] += other.shotHistogram[side][shots];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of games played.
+     * @return the number of games
+     */
+    public int getGames()
+    {
+        return games;
+    }
+
+    /**
+     * Gets the number of games a side won.
+     * @param side 0 for the first player, 1 for the second
+     * @return the number of wins
+     */
+    public int getWins(int side)
+    {
+        return wins[side];
+    }
+
+    /**
+     * Gets the fraction of games a side won.
+     * @param side 0 for the first player, 1 for the second
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(int side)
+    {
+        return games == 0 ? 0 : (double) wins[side] / games;
+    }
+
+    /**
+     * Gets the average number of shots a side fired in the games it won.
+     * @param side 0 for the first player, 1 for the second
+     * @return the mean shots to win, or 0 if the side never won
+     */
+    public double getMeanShotsToWin(int side)
+    {
+        return wins[side] == 0 ? 0 : (double) winningShots[side] / wins[side];
+    }
+
+    /**
+     * Gets how many games a side won using a given number of shots.
+     * @param side 0 for the first player, 1 for the second
+     * @param shots the number of shots
+     * @return the number of games won with exactly that many shots
+     */
+    public int getShotCount(int side, int shots)
+    {
+        return shotHistogram[side][shots];
+    }
+
+    /**
+     * Creates a report of the win rates, mean shots to win, and the shots-to-win distribution.
+     * @param name1 name of the first player
+     * @param name2 name of the second player
+     * @return a multi-line report
+     */
+    public String report(String name1, String name2)
+    {
+        String[] names = {name1, name2};
+        StringBuilder s = new StringBuilder();
+        s.append(games).append(" games\n");
+        for (int side = 0; side < 2; side++)
+        {
+            s.append(String.format("%-10s won %6.2f%%  mean shots to win %6.2f%n",
+                    names[side], 100 * getWinRate(side), getMeanShotsToWin(side)));
+        }
+
+        s.append(String.format("%-6s %10s %10s%n", "shots", name1, name2));
+        for (int shots = 0; shots < shotHistogram[0].length; shots++)
+        {
+            if (shotHistogram[0][shots] != 0 || shotHistogram[1][shots] != 0)
+            {
+                s.append(String.format("%-6d %10d %10d%n", shots, shotHistogram[0][shots], shotHistogram[1][shots]));
+            }
+        }
+        return s.toString();
+    }
+}
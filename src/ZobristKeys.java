@@ -0,0 +1,77 @@
+/**
+ * The random 64-bit keys a position's Zobrist hash is built from: one for each square a player may fire
+ * on and its outcome, one for each ship a player may sink, and one for whose turn it is.  A position's
+ * hash is the exclusive or of the keys of everything that has happened in it, so each shot updates the
+ * hash with one or two exclusive ors, and two positions reached by the same shots in any order hash
+ * alike.
+ * <p>
+ * Keys are not stored in tables, which would grow with the board: each is computed when needed by
+ * scrambling its feature number with the SplitMix64 finalizer, which takes a few nanoseconds and gives
+ * the same keys on every run, so hashes can be kept in game logs and opening books.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class ZobristKeys
+{
+    private static final long SEED = 0x42534850L;              // "BSHP"
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final int SHOT = 0;
+    private static final int SUNK = 1;
+    private static final int TURN = 2;
+
+    /**
+     * Prevents construction; every method is static.
+     */
+    private ZobristKeys()
+    {
+    }
+
+    /**
+     * Gets the key of a player's shot on a square of the opponent's ocean.
+     * @param playerNum the identifying number of the player firing (1 or 2)
+     * @param cell the row-major number of the square
+     * @param hit true if the shot struck a ship, false if it missed
+     * @return the key
+     */
+    public static long shot(int playerNum, int cell, boolean hit)
+    {
+        return key(SHOT, playerNum, ((long) cell << 1) | (hit ? 1 : 0));
+    }
+
+    /**
+     * Gets the key of a player sinking a ship of the opponent's fleet.
+     * @param playerNum the identifying number of the player who sank the ship (1 or 2)
+     * @param ship the fleet index of the ship
+     * @return the key
+     */
+    public static long sunk(int playerNum, int ship)
+    {
+        return key(SUNK, playerNum, ship);
+    }
+
+    /**
+     * Gets the key included while it is player 2's turn to fire.
+     * @return the key
+     */
+    public static long secondPlayerToMove()
+    {
+        return key(TURN, 2, 0);
+    }
+
+    /**
+     * Scrambles a feature number into a key.
+     * @param kind what the feature is: SHOT, SUNK or TURN
+     * @param playerNum the player the feature belongs to (1 or 2)
+     * @param value which shot or ship
+     * @return the key
+     */
+    private static long key(int kind, int playerNum, long value)
+    {
+        long z = SEED + ((value << 3 | (playerNum - 1) << 2 | kind) + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -18,6 +18,7 @@ package gridworld.actor;
 
 import gridworld.grid.Grid;
 import gridworld.grid.Location;
+import gridworld.grid.OccupantVisitor;
 import gridworld.world.World;
 
 import java.util.ArrayList;
@@ -57,9 +58,15 @@ public class ActorWorld extends World<Actor>
     public void step()
     {
         Grid<Actor> gr = getGrid();
-        ArrayList<Actor> actors = new ArrayList<Actor>();
-        for (Location loc : gr.getOccupiedLocations())
-            actors.add(gr.get(loc));
+        final ArrayList<Actor> actors =
+                new ArrayList<Actor>(gr.getOccupiedCount());
+        gr.forEachOccupant(new OccupantVisitor<Actor>()
+        {
+            public void visit(int row, int col, Actor occupant)
+            {
+                actors.add(occupant);
+            }
+        });
 
         for (Actor a : actors)
         {
@@ -70,6 +70,37 @@ public abstract class AbstractGrid<E> implements Grid<E>
         return locs;
     }
 
+    public boolean isValid(long key)
+    {
+        return isValid(Location.fromKey(key));
+    }
+
+    public E put(long key, E obj)
+    {
+        return put(Location.fromKey(key), obj);
+    }
+
+    public E remove(long key)
+    {
+        return remove(Location.fromKey(key));
+    }
+
+    public E get(long key)
+    {
+        return get(Location.fromKey(key));
+    }
+
+    public int getOccupiedCount()
+    {
+        return getOccupiedLocations().size();
+    }
+
+    public void forEachOccupant(OccupantVisitor<? super E> visitor)
+    {
+        for (Location loc : getOccupiedLocations())
+            visitor.visit(loc.getRow(), loc.getCol(), get(loc));
+    }
+
     /**
      * Creates a string that describes this grid.
      * @return a string with descriptions of all objects in this grid (not
@@ -29,6 +29,12 @@ import java.util.ArrayList;
 public class BoundedGrid<E> extends AbstractGrid<E>
 {
     private Object[][] occupantArray; // the array storing the grid elements
+    private int[] emptyCells;         // row-major numbers of the empty locations, built on first use
+    private int[] emptyIndex;         // where each location is in emptyCells, or -1 if occupied
+    private int emptyCount;
+    private long[] occupiedBits;      // one bit per location, in row-major order
+    private long[] occupiedWords;     // one bit per word of occupiedBits that is not zero
+    private int occupiedCount;
 
     /**
      * Constructs an empty bounded grid with the given dimensions.
@@ -43,6 +49,8 @@ public class BoundedGrid<E> extends AbstractGrid<E>
         if (cols <= 0)
             throw new IllegalArgumentException("cols <= 0");
         occupantArray = new Object[rows][cols];
+        occupiedBits = new long[(int) (((long) rows * cols + 63) >>> 6)];
+        occupiedWords = new long[(occupiedBits.length + 63) >>> 6];
     }
 
     public int getNumRows()
@@ -59,36 +67,101 @@ public class BoundedGrid<E> extends AbstractGrid<E>
 
     public boolean isValid(Location loc)
     {
-        return 0 <= loc.getRow() && loc.getRow() < getNumRows()
-                && 0 <= loc.getCol() && loc.getCol() < getNumCols();
+        return isValid(loc.getRow(), loc.getCol());
     }
 
-    public ArrayList<Location> getOccupiedLocations()
+    public boolean isValid(long key)
+    {
+        return isValid(Location.keyRow(key), Location.keyCol(key));
+    }
+
+    /**
+     * Gets the number of empty locations in this grid.
+     * @return the number of empty locations
+     */
+    public int getEmptyCount()
+    {
+        buildEmptyCells();
+        return emptyCount;
+    }
+
+    /**
+     * Gets one of the empty locations in this grid, in constant time. The
+     * empty locations are numbered in no particular order, so choosing
+     * <code>n</code> at random gives a uniformly random empty location. <br />
+     * Precondition: <code>0 <= n < getEmptyCount()</code>
+     * @param n the number of the empty location
+     * @return the empty location
+     */
+    public Location getEmptyLocation(int n)
     {
-        ArrayList<Location> theLocations = new ArrayList<Location>();
+        buildEmptyCells();
+        if (n < 0 || n >= emptyCount)
+            throw new IndexOutOfBoundsException("empty location " + n
+                    + " of " + emptyCount);
+        int cell = emptyCells[n];
+        return Location.of(cell / getNumCols(), cell % getNumCols());
+    }
 
-        // Look at all grid locations.
-        for (int r = 0; r < getNumRows(); r++)
+    public ArrayList<Location> getOccupiedLocations()
+    {
+        final ArrayList<Location> theLocations =
+                new ArrayList<Location>(occupiedCount);
+        forEachOccupant(new OccupantVisitor<E>()
         {
-            for (int c = 0; c < getNumCols(); c++)
+            public void visit(int row, int col, E occupant)
             {
-                // If there's an object at this location, put it in the array.
-                Location loc = new Location(r, c);
-                if (get(loc) != null)
-                    theLocations.add(loc);
+                theLocations.add(Location.of(row, col));
             }
-        }
-
+        });
         return theLocations;
     }
 
+    public int getOccupiedCount()
+    {
+        return occupiedCount;
+    }
+
     @SuppressWarnings("unchecked")
-	public E get(Location loc)
+    public void forEachOccupant(OccupantVisitor<? super E> visitor)
+    {
+        // Only the occupied locations are looked at: the summary words skip
+        // every run of 4096 empty locations, the words every run of 64.
+        int cols = getNumCols();
+        for (int s = 0; s < occupiedWords.length; s++)
+        {
+            long summary = occupiedWords[s];
+            while (summary != 0)
+            {
+                int w = (s << 6) + Long.numberOfTrailingZeros(summary);
+                summary &= summary - 1;
+                long word = occupiedBits[w];
+                while (word != 0)
+                {
+                    int cell = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    int r = cell / cols;
+                    int c = cell % cols;
+                    visitor.visit(r, c, (E) occupantArray[r][c]);
+                }
+            }
+        }
+    }
+
+    public E get(Location loc)
     {
         if (!isValid(loc))
             throw new IllegalArgumentException("Location " + loc
                     + " is not valid");
-        return (E) occupantArray[loc.getRow()][loc.getCol()]; // unavoidable warning
+        return getAt(loc.getRow(), loc.getCol());
+    }
+
+    public E get(long key)
+    {
+        if (!isValid(key))
+            throw new IllegalArgumentException("Location "
+                    + Location.fromKey(key) + " is not valid");
+        return getAt(Location.keyRow(key), Location.keyCol(key));
     }
 
     public E put(Location loc, E obj)
@@ -98,11 +171,17 @@ public class BoundedGrid<E> extends AbstractGrid<E>
                     + " is not valid");
         if (obj == null)
             throw new NullPointerException("obj == null");
+        return putAt(loc.getRow(), loc.getCol(), obj);
+    }
 
-        // Add the object to the grid.
-        E oldOccupant = get(loc);
-        occupantArray[loc.getRow()][loc.getCol()] = obj;
-        return oldOccupant;
+    public E put(long key, E obj)
+    {
+        if (!isValid(key))
+            throw new IllegalArgumentException("Location "
+                    + Location.fromKey(key) + " is not valid");
+        if (obj == null)
+            throw new NullPointerException("obj == null");
+        return putAt(Location.keyRow(key), Location.keyCol(key), obj);
     }
 
     public E remove(Location loc)
@@ -110,10 +189,115 @@ public class BoundedGrid<E> extends AbstractGrid<E>
         if (!isValid(loc))
             throw new IllegalArgumentException("Location " + loc
                     + " is not valid");
-        
+        return removeAt(loc.getRow(), loc.getCol());
+    }
+
+    public E remove(long key)
+    {
+        if (!isValid(key))
+            throw new IllegalArgumentException("Location "
+                    + Location.fromKey(key) + " is not valid");
+        return removeAt(Location.keyRow(key), Location.keyCol(key));
+    }
+
+    /**
+     * Checks whether a row and column are inside this grid.
+     * @param r the row
+     * @param c the column
+     * @return <code>true</code> if the location is valid in this grid
+     */
+    private boolean isValid(int r, int c)
+    {
+        return 0 <= r && r < getNumRows() && 0 <= c && c < getNumCols();
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getAt(int r, int c)
+    {
+        return (E) occupantArray[r][c]; // unavoidable warning
+    }
+
+    private E putAt(int r, int c, E obj)
+    {
+        // Add the object to the grid.
+        E oldOccupant = getAt(r, c);
+        occupantArray[r][c] = obj;
+        if (oldOccupant == null)
+        {
+            int cell = r * getNumCols() + c;
+            occupiedBits[cell >>> 6] |= 1L << cell;
+            occupiedWords[cell >>> 12] |= 1L << (cell >>> 6);
+            occupiedCount++;
+            if (emptyCells != null)
+                removeEmpty(cell);
+        }
+        return oldOccupant;
+    }
+
+    private E removeAt(int r, int c)
+    {
         // Remove the object from the grid.
-        E r = get(loc);
-        occupantArray[loc.getRow()][loc.getCol()] = null;
-        return r;
+        E oldOccupant = getAt(r, c);
+        occupantArray[r][c] = null;
+        if (oldOccupant != null)
+        {
+            int cell = r * getNumCols() + c;
+            occupiedBits[cell >>> 6] &= ~(1L << cell);
+            if (occupiedBits[cell >>> 6] == 0)
+                occupiedWords[cell >>> 12] &= ~(1L << (cell >>> 6));
+            occupiedCount--;
+            if (emptyCells != null)
+                addEmpty(cell);
+        }
+        return oldOccupant;
+    }
+
+    /**
+     * Lists the empty locations the first time they are needed; from then
+     * on <code>put</code> and <code>remove</code> keep the list up to date.
+     */
+    private void buildEmptyCells()
+    {
+        if (emptyCells != null)
+            return;
+
+        int cols = getNumCols();
+        emptyCells = new int[getNumRows() * cols];
+        emptyIndex = new int[emptyCells.length];
+        emptyCount = 0;
+        for (int cell = 0; cell < emptyCells.length; cell++)
+        {
+            if (occupantArray[cell / cols][cell % cols] == null)
+            {
+                emptyIndex[cell] = emptyCount;
+                emptyCells[emptyCount++] = cell;
+            }
+            else
+                emptyIndex[cell] = -1;
+        }
+    }
+
+    /**
+     * Removes a location from the empty locations by moving the last empty
+     * location into its place.
+     * @param cell the row-major number of the location
+     */
+    private void removeEmpty(int cell)
+    {
+        int i = emptyIndex[cell];
+        int last = emptyCells[--emptyCount];
+        emptyCells[i] = last;
+        emptyIndex[last] = i;
+        emptyIndex[cell] = -1;
+    }
+
+    /**
+     * Adds a location to the end of the empty locations.
+     * @param cell the row-major number of the location
+     */
+    private void addEmpty(int cell)
+    {
+        emptyIndex[cell] = emptyCount;
+        emptyCells[emptyCount++] = cell;
     }
 }
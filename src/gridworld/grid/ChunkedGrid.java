@@ -0,0 +1,298 @@
+package gridworld.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A <code>ChunkedGrid</code> is a bounded grid for boards too large to hold
+ * as one array. The grid is cut into 64 by 64 chunks, and a chunk's array is
+ * only created when something is put in it and is dropped again when its
+ * last occupant is removed, so an almost empty grid takes almost no memory.
+ * Getting an occupant is still one index into a chunk, and visiting the
+ * occupants only looks inside the chunks that exist.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class ChunkedGrid<E> extends AbstractGrid<E>
+{
+    private static final int CHUNK_BITS = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS; // rows and columns in a chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int rows;
+    private int cols;
+    private int chunkCols;       // chunks across one band of rows
+    private Object[][] chunks;   // each chunk in row-major order, or null while empty
+    private int[] chunkCounts;   // the number of occupants in each chunk
+    private int[] liveChunks;    // indices of the chunks that exist, in no order
+    private int[] livePositions; // where each chunk is in liveChunks, or -1
+    private int liveCount;
+    private int occupiedCount;
+
+    /**
+     * Constructs an empty chunked grid with the given dimensions.
+     * (Precondition: <code>rows > 0</code> and <code>cols > 0</code>.)
+     * @param rows number of rows in ChunkedGrid
+     * @param cols number of columns in ChunkedGrid
+     */
+    public ChunkedGrid(int rows, int cols)
+    {
+        if (rows <= 0)
+            throw new IllegalArgumentException("rows <= 0");
+        if (cols <= 0)
+            throw new IllegalArgumentException("cols <= 0");
+        this.rows = rows;
+        this.cols = cols;
+        chunkCols = (cols + CHUNK_MASK) >>> CHUNK_BITS;
+        int chunkRows = (rows + CHUNK_MASK) >>> CHUNK_BITS;
+        chunks = new Object[chunkRows * chunkCols][];
+        chunkCounts = new int[chunks.length];
+        liveChunks = new int[chunks.length];
+        livePositions = new int[chunks.length];
+        Arrays.fill(livePositions, -1);
+    }
+
+    public int getNumRows()
+    {
+        return rows;
+    }
+
+    public int getNumCols()
+    {
+        return cols;
+    }
+
+    public boolean isValid(Location loc)
+    {
+        return isValid(loc.getRow(), loc.getCol());
+    }
+
+    public boolean isValid(long key)
+    {
+        return isValid(Location.keyRow(key), Location.keyCol(key));
+    }
+
+    /**
+     * Gets the number of chunks that currently have an array.
+     * @return the number of allocated chunks
+     */
+    public int getChunkCount()
+    {
+        return liveCount;
+    }
+
+    public ArrayList<Location> getOccupiedLocations()
+    {
+        final ArrayList<Location> theLocations =
+                new ArrayList<Location>(occupiedCount);
+        forEachOccupant(new OccupantVisitor<E>()
+        {
+            public void visit(int row, int col, E occupant)
+            {
+                theLocations.add(Location.of(row, col));
+            }
+        });
+        return theLocations;
+    }
+
+    public int getOccupiedCount()
+    {
+        return occupiedCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachOccupant(OccupantVisitor<? super E> visitor)
+    {
+        // Chunks are numbered in row-major order, so sorting the chunks that
+        // exist groups them by band of rows; each band's rows are then walked
+        // in order across only its own chunks.
+        int[] order = Arrays.copyOf(liveChunks, liveCount);
+        Arrays.sort(order);
+        int first = 0;
+        while (first < order.length)
+        {
+            int band = order[first] / chunkCols;
+            int end = first + 1;
+            while (end < order.length && order[end] / chunkCols == band)
+                end++;
+
+            int firstRow = band << CHUNK_BITS;
+            int height = Math.min(CHUNK_SIZE, rows - firstRow);
+            for (int r = 0; r < height; r++)
+            {
+                int offset = r << CHUNK_BITS;
+                for (int i = first; i < end; i++)
+                {
+                    Object[] chunk = chunks[order[i]];
+                    int firstCol = (order[i] % chunkCols) << CHUNK_BITS;
+                    int width = Math.min(CHUNK_SIZE, cols - firstCol);
+                    for (int c = 0; c < width; c++)
+                    {
+                        Object occupant = chunk[offset + c];
+                        if (occupant != null)
+                            visitor.visit(firstRow + r, firstCol + c,
+                                    (E) occupant);
+                    }
+                }
+            }
+            first = end;
+        }
+    }
+
+    public E get(Location loc)
+    {
+        if (!isValid(loc))
+            throw new IllegalArgumentException("Location " + loc
+                    + " is not valid");
+        return getAt(loc.getRow(), loc.getCol());
+    }
+
+    public E get(long key)
+    {
+        if (!isValid(key))
+            throw new IllegalArgumentException("Location "
+                    + Location.fromKey(key) + " is not valid");
+        return getAt(Location.keyRow(key), Location.keyCol(key));
+    }
+
+    public E put(Location loc, E obj)
+    {
+        if (!isValid(loc))
+            throw new IllegalArgumentException("Location " + loc
+                    + " is not valid");
+        if (obj == null)
+            throw new NullPointerException("obj == null");
+        return putAt(loc.getRow(), loc.getCol(), obj);
+    }
+
+    public E put(long key, E obj)
+    {
+        if (!isValid(key))
+            throw new IllegalArgumentException("Location "
+                    + Location.fromKey(key) + " is not valid");
+        if (obj == null)
+            throw new NullPointerException("obj == null");
+        return putAt(Location.keyRow(key), Location.keyCol(key), obj);
+    }
+
+    public E remove(Location loc)
+    {
+        if (!isValid(loc))
+            throw new IllegalArgumentException("Location " + loc
+                    + " is not valid");
+        return removeAt(loc.getRow(), loc.getCol());
+    }
+
+    public E remove(long key)
+    {
+        if (!isValid(key))
+            throw new IllegalArgumentException("Location "
+                    + Location.fromKey(key) + " is not valid");
+        return removeAt(Location.keyRow(key), Location.keyCol(key));
+    }
+
+    /**
+     * Checks whether a row and column are inside this grid.
+     * @param r the row
+     * @param c the column
+     * @return <code>true</code> if the location is valid in this grid
+     */
+    private boolean isValid(int r, int c)
+    {
+        return 0 <= r && r < rows && 0 <= c && c < cols;
+    }
+
+    /**
+     * Gets the index of the chunk holding a location.
+     * @param r the row
+     * @param c the column
+     * @return the index into <code>chunks</code>
+     */
+    private int chunkOf(int r, int c)
+    {
+        return (r >>> CHUNK_BITS) * chunkCols + (c >>> CHUNK_BITS);
+    }
+
+    /**
+     * Gets the index of a location inside its chunk.
+     * @param r the row
+     * @param c the column
+     * @return the index into the chunk's array
+     */
+    private static int indexInChunk(int r, int c)
+    {
+        return ((r & CHUNK_MASK) << CHUNK_BITS) | (c & CHUNK_MASK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getAt(int r, int c)
+    {
+        Object[] chunk = chunks[chunkOf(r, c)];
+        if (chunk == null)
+            return null;
+        return (E) chunk[indexInChunk(r, c)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E putAt(int r, int c, E obj)
+    {
+        int ci = chunkOf(r, c);
+        Object[] chunk = chunks[ci];
+        if (chunk == null)
+        {
+            chunk = new Object[CHUNK_SIZE * CHUNK_SIZE];
+            chunks[ci] = chunk;
+            livePositions[ci] = liveCount;
+            liveChunks[liveCount] = ci;
+            liveCount++;
+        }
+
+        int i = indexInChunk(r, c);
+        E oldOccupant = (E) chunk[i];
+        chunk[i] = obj;
+        if (oldOccupant == null)
+        {
+            chunkCounts[ci]++;
+            occupiedCount++;
+        }
+        return oldOccupant;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeAt(int r, int c)
+    {
+        int ci = chunkOf(r, c);
+        Object[] chunk = chunks[ci];
+        if (chunk == null)
+            return null;
+
+        int i = indexInChunk(r, c);
+        E oldOccupant = (E) chunk[i];
+        if (oldOccupant != null)
+        {
+            chunk[i] = null;
+            occupiedCount--;
+            chunkCounts[ci]--;
+            if (chunkCounts[ci] == 0)
+                dropChunk(ci);
+        }
+        return oldOccupant;
+    }
+
+    /**
+     * Gives an empty chunk's array back, moving the last chunk in
+     * <code>liveChunks</code> into its place.
+     * @param ci the index of the chunk
+     */
+    private void dropChunk(int ci)
+    {
+        chunks[ci] = null;
+        int position = livePositions[ci];
+        liveCount--;
+        int last = liveChunks[liveCount];
+        liveChunks[position] = last;
+        livePositions[last] = position;
+        livePositions[ci] = -1;
+    }
+}
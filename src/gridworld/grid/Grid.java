@@ -78,12 +78,66 @@ public interface Grid<E>
      */
     E get(Location loc);
 
+    /**
+     * Checks whether a location given by its key is valid in this grid.
+     * @param key the key of the location, as made by
+     * <code>Location.toKey</code>
+     * @return <code>true</code> if the location is valid in this grid,
+     * <code>false</code> otherwise
+     */
+    boolean isValid(long key);
+
+    /**
+     * Puts an object at a location given by its key. <br />
+     * Precondition: the location is valid in this grid
+     * @param key the key of the location, as made by
+     * <code>Location.toKey</code>
+     * @param obj the new object to be added
+     * @return the object previously at the location (or <code>null</code>
+     * if the location was previously unoccupied)
+     */
+    E put(long key, E obj);
+
+    /**
+     * Removes the object at a location given by its key. <br />
+     * Precondition: the location is valid in this grid
+     * @param key the key of the location, as made by
+     * <code>Location.toKey</code>
+     * @return the object that was removed (or <code>null</code> if the
+     * location is unoccupied)
+     */
+    E remove(long key);
+
+    /**
+     * Returns the object at a location given by its key. <br />
+     * Precondition: the location is valid in this grid
+     * @param key the key of the location, as made by
+     * <code>Location.toKey</code>
+     * @return the object at the location (or <code>null</code> if the
+     * location is unoccupied)
+     */
+    E get(long key);
+
     /**
      * Gets the locations in this grid that contain objects.
      * @return an array list of all occupied locations in this grid
      */
     ArrayList<Location> getOccupiedLocations();
 
+    /**
+     * Gets the number of locations in this grid that contain objects.
+     * @return the number of occupied locations
+     */
+    int getOccupiedCount();
+
+    /**
+     * Visits every object in this grid, in the same order as
+     * <code>getOccupiedLocations</code>. The grid must not be changed while
+     * it is being visited.
+     * @param visitor the visitor that is given each object and its location
+     */
+    void forEachOccupant(OccupantVisitor<? super E> visitor);
+
     /**
      * Gets the valid locations adjacent to a given location in all eight
      * compass directions (north, northeast, east, southeast, south, southwest,
@@ -27,8 +27,14 @@ package gridworld.grid;
  */
 public class Location implements Comparable<Object>
 {
-    private int row; // row location in grid
-    private int col; // column location in grid
+    private final int row; // row location in grid
+    private final int col; // column location in grid
+
+    // Locations handed out by of(), one array per row, each made when a
+    // location in that row is first asked for. The range covers the
+    // largest Battleship board.
+    private static final int CACHE_SIZE = 1024;
+    private static final Location[][] cache = new Location[CACHE_SIZE][];
 
     /**
      * The turn angle for turning 90 degrees to the left.
@@ -103,6 +109,88 @@ public class Location implements Comparable<Object>
         col = c;
     }
 
+    /**
+     * Gets the location with given row and column coordinates. Locations
+     * with coordinates from 0 to 1023 are shared rather than created on each
+     * call, which is safe because a location never changes.
+     * @param r the row
+     * @param c the column
+     * @return a location equal to <code>new Location(r, c)</code>
+     */
+    public static Location of(int r, int c)
+    {
+        if (r < 0 || r >= CACHE_SIZE || c < 0 || c >= CACHE_SIZE)
+            return new Location(r, c);
+
+        Location[] cachedRow = cache[r];
+        if (cachedRow == null)
+        {
+            cachedRow = new Location[CACHE_SIZE];
+            cache[r] = cachedRow;
+        }
+        Location loc = cachedRow[c];
+        if (loc == null)
+        {
+            loc = new Location(r, c);
+            cachedRow[c] = loc;
+        }
+        return loc;
+    }
+
+    /**
+     * Packs a row and column into one <code>long</code>, the row in the high
+     * 32 bits and the column in the low 32 bits. Distinct locations always
+     * have distinct keys, and keys sort in row-major order for non-negative
+     * coordinates.
+     * @param r the row
+     * @param c the column
+     * @return the key for the location
+     */
+    public static long toKey(int r, int c)
+    {
+        return ((long) r << 32) | (c & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the row coordinate of a key made by <code>toKey</code>.
+     * @param key the key
+     * @return the row of the location
+     */
+    public static int keyRow(long key)
+    {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Gets the column coordinate of a key made by <code>toKey</code>.
+     * @param key the key
+     * @return the column of the location
+     */
+    public static int keyCol(long key)
+    {
+        return (int) key;
+    }
+
+    /**
+     * Gets the location with the coordinates of a key made by
+     * <code>toKey</code>.
+     * @param key the key
+     * @return the location of the key
+     */
+    public static Location fromKey(long key)
+    {
+        return of(keyRow(key), keyCol(key));
+    }
+
+    /**
+     * Packs this location into one <code>long</code>.
+     * @return the key for this location, as given by <code>toKey</code>
+     */
+    public long toKey()
+    {
+        return toKey(row, col);
+    }
+
     /**
      * Gets the row coordinate.
      * @return the row of this location
@@ -165,7 +253,7 @@ public class Location implements Comparable<Object>
             dc = 1;
             dr = -1;
         }
-        return new Location(getRow() + dr, getCol() + dc);
+        return of(getRow() + dr, getCol() + dc);
     }
 
     /**
@@ -217,7 +305,10 @@ public class Location implements Comparable<Object>
      */
     public int hashCode()
     {
-        return getRow() * 3737 + getCol();
+        // multiply the packed key by a large odd constant and keep the high
+        // bits, which depend on every bit of both coordinates
+        long h = toKey() * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
     }
 
     /**
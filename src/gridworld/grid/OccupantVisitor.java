@@ -0,0 +1,20 @@
+package gridworld.grid;
+
+/**
+ * An <code>OccupantVisitor</code> is handed each occupant of a grid in turn
+ * by <code>Grid.forEachOccupant</code>. The location is passed as its row and
+ * column so that visiting a grid needs no <code>Location</code> objects.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public interface OccupantVisitor<E>
+{
+    /**
+     * Visits one occupant of the grid.
+     * @param row the row of the occupant's location
+     * @param col the column of the occupant's location
+     * @param occupant the occupant
+     */
+    void visit(int row, int col, E occupant);
+}
@@ -0,0 +1,213 @@
+package gridworld.grid;
+
+import java.util.ArrayList;
+
+/**
+ * An <code>OpenAddressGrid</code> is an unbounded grid like
+ * <code>UnboundedGrid</code>, but it keeps its occupants in an open-addressing
+ * hash table keyed by <code>Location.toKey</code> instead of a
+ * <code>HashMap</code>. Each occupant costs one <code>long</code> and one
+ * reference, with no entry or <code>Location</code> object, and a lookup
+ * probes neighboring slots of two arrays rather than following a chain.
+ *
+ * @author Phillip Sturtevant
+ * @version 10/18/2026
+ */
+public class OpenAddressGrid<E> extends AbstractGrid<E>
+{
+    private static final int INITIAL_CAPACITY = 16; // a power of two
+
+    private long[] keys;     // the key in each slot
+    private Object[] values; // the occupant in each slot, or null if the slot is free
+    private int mask;        // capacity - 1, to wrap probes around the table
+    private int size;
+
+    /**
+     * Constructs an empty open-addressing grid.
+     */
+    public OpenAddressGrid()
+    {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public int getNumRows()
+    {
+        return -1;
+    }
+
+    public int getNumCols()
+    {
+        return -1;
+    }
+
+    public boolean isValid(Location loc)
+    {
+        return true;
+    }
+
+    public boolean isValid(long key)
+    {
+        return true;
+    }
+
+    public ArrayList<Location> getOccupiedLocations()
+    {
+        ArrayList<Location> a = new ArrayList<Location>(size);
+        for (int i = 0; i < values.length; i++)
+            if (values[i] != null)
+                a.add(Location.fromKey(keys[i]));
+        return a;
+    }
+
+    public int getOccupiedCount()
+    {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachOccupant(OccupantVisitor<? super E> visitor)
+    {
+        for (int i = 0; i < values.length; i++)
+            if (values[i] != null)
+                visitor.visit(Location.keyRow(keys[i]),
+                        Location.keyCol(keys[i]), (E) values[i]);
+    }
+
+    public E get(Location loc)
+    {
+        if (loc == null)
+            throw new NullPointerException("loc == null");
+        return get(loc.toKey());
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long key)
+    {
+        int i = find(key);
+        return (E) values[i]; // null if the key is not in the table
+    }
+
+    public E put(Location loc, E obj)
+    {
+        if (loc == null)
+            throw new NullPointerException("loc == null");
+        return put(loc.toKey(), obj);
+    }
+
+    @SuppressWarnings("unchecked")
+    public E put(long key, E obj)
+    {
+        if (obj == null)
+            throw new NullPointerException("obj == null");
+
+        int i = find(key);
+        E oldOccupant = (E) values[i];
+        if (oldOccupant == null)
+        {
+            // keep the table at most half full so probe runs stay short
+            if (2 * (size + 1) > values.length)
+            {
+                rehash(2 * values.length);
+                i = find(key);
+            }
+            keys[i] = key;
+            size++;
+        }
+        values[i] = obj;
+        return oldOccupant;
+    }
+
+    public E remove(Location loc)
+    {
+        if (loc == null)
+            throw new NullPointerException("loc == null");
+        return remove(loc.toKey());
+    }
+
+    @SuppressWarnings("unchecked")
+    public E remove(long key)
+    {
+        int i = find(key);
+        E oldOccupant = (E) values[i];
+        if (oldOccupant == null)
+            return null;
+
+        // Close the gap by moving back any later entry of the same probe run
+        // that could not have been placed in the freed slot's place, so no
+        // tombstones are needed.
+        int j = i;
+        while (true)
+        {
+            j = (j + 1) & mask;
+            if (values[j] == null)
+                break;
+            int home = slotOf(keys[j]);
+            boolean reachable = (i <= j) ? (i < home && home <= j)
+                    : (i < home || home <= j);
+            if (!reachable)
+            {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = null;
+        size--;
+        return oldOccupant;
+    }
+
+    /**
+     * Finds the slot holding a key, or the free slot where it would go.
+     * @param key the key to look for
+     * @return the index of the slot
+     */
+    private int find(long key)
+    {
+        int i = slotOf(key);
+        while (values[i] != null && keys[i] != key)
+            i = (i + 1) & mask;
+        return i;
+    }
+
+    /**
+     * Gets the first slot to probe for a key.
+     * @param key the key
+     * @return the index of the slot
+     */
+    private int slotOf(long key)
+    {
+        // the high bits of the product depend on every bit of the key
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    /**
+     * Moves every occupant into a new table.
+     * @param capacity the number of slots in the new table, a power of two
+     */
+    private void rehash(int capacity)
+    {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int j = find(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Creates an empty table.
+     * @param capacity the number of slots, a power of two
+     */
+    private void allocate(int capacity)
+    {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -63,6 +63,18 @@ public class UnboundedGrid<E> extends AbstractGrid<E>
         return a;
     }
 
+    public int getOccupiedCount()
+    {
+        return occupantMap.size();
+    }
+
+    public void forEachOccupant(OccupantVisitor<? super E> visitor)
+    {
+        for (Map.Entry<Location, E> entry : occupantMap.entrySet())
+            visitor.visit(entry.getKey().getRow(), entry.getKey().getCol(),
+                    entry.getValue());
+    }
+
     public E get(Location loc)
     {
         if (loc == null)
@@ -24,7 +24,8 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.Icon;
 
@@ -37,7 +38,9 @@ import javax.swing.Icon;
  */
 public class DisplayMap
 {
-    private HashMap<Class, Display> map = new HashMap<Class, Display>();
+    // Every class looked up so far, mapped to the display found for it or
+    // for its nearest superclass, so each class is resolved only once.
+    private Map<Class, Display> map = new ConcurrentHashMap<Class, Display>();
     private Display defaultDisplay = new DefaultDisplay();
 
     /**
@@ -49,31 +52,36 @@ public class DisplayMap
 
     private Display createDisplay(Class cl)
     {
-        try
+        String className = cl.getName();
+
+        // look for the class file first, so a missing display class is not
+        // found out by catching an exception
+        ClassLoader loader = DisplayMap.class.getClassLoader();
+        if (loader != null && loader.getResource(
+                className.replace('.', '/') + "Display.class") != null)
         {
-            String className = cl.getName();
-            Class dcl = Class.forName(className + "Display");
-            if (Display.class.isAssignableFrom(dcl))
+            try
             {
-                Display display = (Display) dcl.newInstance();
-                map.put(cl, display);
-                return display;
+                Class dcl = Class.forName(className + "Display");
+                if (Display.class.isAssignableFrom(dcl))
+                    return (Display) dcl.newInstance();
+            }
+            catch (Exception e)
+            {
+                // oh well...
             }
-        }
-        catch (Exception e)
-        {
-            // oh well...
         }
 
-        try
-        {
-            ImageDisplay display = new ImageDisplay(cl);
-            map.put(cl, display);
-            return display;
-        }
-        catch (Exception e)
+        if (ImageDisplay.hasImage(cl))
         {
-            // oh well...
+            try
+            {
+                return new ImageDisplay(cl);
+            }
+            catch (Exception e)
+            {
+                // oh well...
+            }
         }
 
         return null;
@@ -85,22 +93,27 @@ public class DisplayMap
      */
     public Display findDisplayFor(Class cl)
     {
-        // Go up through the class hierarchy for obj and see
-        // if there is a display for its class or superclasses.
-
-        if (cl == Object.class)
+        if (cl == null) // an interface has no superclass
             return defaultDisplay;
         Display display = map.get(cl);
         if (display != null)
             return display;
-        display = createDisplay(cl);
-        if (display != null)
+
+        // Go up through the class hierarchy for obj and see
+        // if there is a display for its class or superclasses.
+        if (cl == Object.class)
+            display = defaultDisplay;
+        else
         {
-            map.put(cl, display);
-            return display;
+            display = createDisplay(cl);
+            if (display == null)
+                display = findDisplayFor(cl.getSuperclass());
         }
-        display = findDisplayFor(cl.getSuperclass());
-        map.put(cl, display);
+
+        // keep the first display if another thread got here too
+        Display earlier = map.putIfAbsent(cl, display);
+        if (earlier != null)
+            return earlier;
         return display;
     }
 
@@ -137,8 +137,13 @@ public class GUIController<T>
             stop();
         Grid<T> gr = parentFrame.getWorld().getGrid();
 
-        for (Location loc : gr.getOccupiedLocations())
-            addOccupant(gr.get(loc));
+        gr.forEachOccupant(new OccupantVisitor<T>()
+        {
+            public void visit(int row, int col, T occupant)
+            {
+                addOccupant(occupant);
+            }
+        });
     }
 
     private void addOccupant(T occupant)
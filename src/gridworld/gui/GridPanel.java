@@ -21,6 +21,7 @@ package gridworld.gui;
 
 import gridworld.grid.Grid;
 import gridworld.grid.Location;
+import gridworld.grid.OccupantVisitor;
 
 import java.awt.Color;
 import java.awt.Component;
@@ -28,6 +29,7 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
@@ -38,8 +40,8 @@ import java.awt.event.MouseEvent;
 import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.ResourceBundle;
 
 import javax.swing.JPanel;
@@ -66,6 +68,8 @@ public class GridPanel extends JPanel implements Scrollable,
     private static final int DEFAULT_CELL_SIZE = 48;
     private static final int DEFAULT_CELL_COUNT = 10;
     private static final int TIP_DELAY = 1000;
+    // larger grids draw their background and gridlines on every paint
+    private static final int MAX_BACKGROUND_PIXELS = 2048 * 2048;
 
     private Grid<?> grid;
     private int numRows, numCols, originRow, originCol;
@@ -78,6 +82,15 @@ public class GridPanel extends JPanel implements Scrollable,
     private Timer tipTimer;
     private JToolTip tip;
     private JPanel glassPane;
+
+    // the background, watermark and gridlines, drawn once and copied on
+    // every paint until the grid, cell size, origin, insets or panel
+    // bounds change (the watermark is centered on the panel's bounds)
+    private BufferedImage background;
+    private Grid<?> backgroundGrid;
+    private int backgroundCellSize, backgroundOriginRow, backgroundOriginCol;
+    private Insets backgroundInsets;
+    private Rectangle backgroundBounds;
     
     /**
      * Construct a new GridPanel object with no grid. The view will be
@@ -103,6 +116,23 @@ public class GridPanel extends JPanel implements Scrollable,
         if (grid == null)
             return;
 
+        Insets insets = getInsets();
+        if (updateBackground())
+            g2.drawImage(background, insets.left, insets.top, null);
+        else
+            drawBackground(g2);
+        drawOccupants(g2);
+        
+        // Phillip Sturtevant Note: commented out to create cleaner look on battleship map
+        //drawCurrentLocation(g2);
+    }
+
+    /**
+     * Draws the background, watermark and gridlines.
+     * @param g2 the graphics context
+     */
+    private void drawBackground(Graphics2D g2)
+    {
         Insets insets = getInsets();
         g2.setColor(backgroundColor); 
         g2.fillRect(insets.left, insets.top, numCols * (cellSize + 1) + 1, numRows
@@ -110,10 +140,69 @@ public class GridPanel extends JPanel implements Scrollable,
 
         drawWatermark(g2);
         drawGridlines(g2);
-        drawOccupants(g2);
-        
-        // Phillip Sturtevant Note: commented out to create cleaner look on battleship map
-        //drawCurrentLocation(g2);
+    }
+
+    /**
+     * Draws the background into an image if the one drawn before no longer
+     * matches the grid or the panel's size.
+     * @return true if the image can be used, false if the grid is too large
+     * to keep one
+     */
+    private boolean updateBackground()
+    {
+        int width = numCols * (cellSize + 1) + 1;
+        int height = numRows * (cellSize + 1) + 1;
+        if ((long) width * height > MAX_BACKGROUND_PIXELS)
+        {
+            background = null;
+            return false;
+        }
+
+        Insets insets = getInsets();
+        Rectangle bounds = getBounds();
+        if (background != null && backgroundGrid == grid
+                && backgroundCellSize == cellSize
+                && backgroundOriginRow == originRow
+                && backgroundOriginCol == originCol
+                && insets.equals(backgroundInsets)
+                && bounds.equals(backgroundBounds)
+                && background.getWidth() == width
+                && background.getHeight() == height)
+            return true;
+
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc == null)
+            background = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_RGB);
+        else
+            background = gc.createCompatibleImage(width, height);
+
+        // draw in the panel's coordinates, so the helpers need no changes
+        Graphics2D g2 = background.createGraphics();
+        g2.translate(-insets.left, -insets.top);
+        g2.clipRect(insets.left, insets.top, width, height);
+        drawBackground(g2);
+        g2.dispose();
+
+        backgroundGrid = grid;
+        backgroundCellSize = cellSize;
+        backgroundOriginRow = originRow;
+        backgroundOriginCol = originCol;
+        backgroundInsets = insets;
+        backgroundBounds = bounds;
+        return true;
+    }
+
+    /**
+     * Repaints the cell of one location, for when only its occupant changed.
+     * @param loc the location to repaint
+     */
+    public void repaintLocation(Location loc)
+    {
+        if (grid == null)
+            return;
+        repaint(colToXCoord(loc.getCol()), rowToYCoord(loc.getRow()),
+                cellSize, cellSize);
     }
 
     /**
@@ -190,15 +279,42 @@ public class GridPanel extends JPanel implements Scrollable,
      */
     private void drawOccupants(Graphics2D g2)
     {
-        ArrayList<Location> occupantLocs = grid.getOccupiedLocations();
-        for (int index = 0; index < occupantLocs.size(); index++)
+        // When only a few cells are being repainted, look in just those cells
+        // rather than visiting every occupant of the grid.
+        Rectangle clip = g2.getClipBounds();
+        if (clip != null)
         {
-            Location loc = (Location) occupantLocs.get(index);
-            
-            int xleft = colToXCoord(loc.getCol());
-            int ytop = rowToYCoord(loc.getRow());
-            drawOccupant(g2, xleft, ytop, grid.get(loc));
+            int minRow = yCoordToRow(clip.y);
+            int maxRow = yCoordToRow(clip.y + clip.height);
+            int minCol = xCoordToCol(clip.x);
+            int maxCol = xCoordToCol(clip.x + clip.width);
+            long clipCells = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+            if (clipCells < grid.getOccupiedCount())
+            {
+                for (int r = minRow; r <= maxRow; r++)
+                    for (int c = minCol; c <= maxCol; c++)
+                    {
+                        Location loc = Location.of(r, c);
+                        if (grid.isValid(loc))
+                        {
+                            Object occupant = grid.get(loc);
+                            if (occupant != null)
+                                drawOccupant(g2, colToXCoord(c), rowToYCoord(r),
+                                        occupant);
+                        }
+                    }
+                return;
+            }
         }
+
+        final Graphics2D g = g2;
+        grid.forEachOccupant(new OccupantVisitor<Object>()
+        {
+            public void visit(int row, int col, Object occupant)
+            {
+                drawOccupant(g, colToXCoord(col), rowToYCoord(row), occupant);
+            }
+        });
     }
 
     /**
@@ -370,7 +486,7 @@ public class GridPanel extends JPanel implements Scrollable,
      */
     public Location locationForPoint(Point p)
     {
-        return new Location(yCoordToRow(p.y), xCoordToCol(p.x));
+        return Location.of(yCoordToRow(p.y), xCoordToCol(p.x));
     }
 
     public Point pointForLocation(Location loc)
@@ -21,9 +21,14 @@ package gridworld.gui;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
 import java.awt.Rectangle;
-import java.awt.image.FilteredImageSource;
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.IndexColorModel;
 import java.awt.image.RGBImageFilter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -46,7 +51,10 @@ public class ImageDisplay extends AbstractDisplay
     private Class<?> cl;
     private String imageFilename;
     private static final String imageExtension = ".gif";
-    private Map<String, Image> tintedVersions = new HashMap<String, Image>();
+    // The sprites by image suffix, then by tint color (null for untinted),
+    // so finding one needs no string key.
+    private Map<String, Map<Color, Sprite>> sprites =
+            new HashMap<String, Map<Color, Sprite>>();
 
     /**
      * Constructs an object that knows how to display an image. Looks for the
@@ -63,7 +71,57 @@ public class ImageDisplay extends AbstractDisplay
         if (url == null)
             throw new FileNotFoundException(imageFilename + imageExtension
                     + " not found.");
-        tintedVersions.put("", ImageIO.read(url));
+        addSprite("", null, ImageIO.read(url));
+    }
+
+    /**
+     * Checks whether there is an image file for a class, without reading it.
+     * @param cl the class
+     * @return true if the image file was found
+     */
+    static boolean hasImage(Class<?> cl)
+    {
+        ClassLoader loader = cl.getClassLoader();
+        return loader != null && loader.getResource(
+                cl.getName().replace('.', '/') + imageExtension) != null;
+    }
+
+    /**
+     * Draws the object in the given rectangle. The image is drawn from a copy
+     * already scaled to the rectangle, which is only made again when the
+     * cell size changes, and is only rotated when the object does not face
+     * North.
+     * @param obj the occupant we want to draw
+     * @param comp the component on which to draw
+     * @param g2 the graphics context
+     * @param rect rectangle in which to draw
+     */
+    public void draw(Object obj, Component comp, Graphics2D g2, Rectangle rect)
+    {
+        Image scaled = findSprite(obj).scaledTo(
+                Math.min(rect.width, rect.height), comp);
+        int width = scaled.getWidth(null);
+        int height = scaled.getHeight(null);
+
+        int rotationInDegrees = 0;
+        if (obj != null)
+        {
+            Integer direction = (Integer) getProperty(obj, "direction");
+            if (direction != null)
+                rotationInDegrees = direction.intValue();
+        }
+
+        if (rotationInDegrees % 360 == 0)
+            g2.drawImage(scaled, rect.x + (rect.width - width) / 2,
+                    rect.y + (rect.height - height) / 2, null);
+        else
+        {
+            g2 = (Graphics2D) g2.create();
+            g2.translate(rect.x + rect.width / 2.0, rect.y + rect.height / 2.0);
+            g2.rotate(Math.toRadians(rotationInDegrees));
+            g2.drawImage(scaled, -width / 2, -height / 2, null);
+            g2.dispose();
+        }
     }
 
     /**
@@ -74,6 +132,25 @@ public class ImageDisplay extends AbstractDisplay
      * @param g2 drawing surface
      */
     public void draw(Object obj, Component comp, Graphics2D g2)
+    {
+        Image tinted = findSprite(obj).image;
+        int width = tinted.getWidth(null);
+        int height = tinted.getHeight(null);
+        int size = Math.max(width, height);
+        
+        // Scale to shrink or enlarge the image to fit the size 1x1 cell.
+        g2.scale(1.0 / size, 1.0 / size);
+        g2.clip(new Rectangle(-width / 2, -height / 2, width, height));
+        g2.drawImage(tinted, -width / 2, -height / 2, null);
+    }
+
+    /**
+     * Finds the sprite for an object's color and image suffix, loading and
+     * tinting its image the first time it is needed.
+     * @param obj the object to draw
+     * @return the sprite
+     */
+    private Sprite findSprite(Object obj)
     {
         Color color;
         if (obj == null)
@@ -83,48 +160,149 @@ public class ImageDisplay extends AbstractDisplay
         String imageSuffix = (String) getProperty(obj, "imageSuffix");
         if (imageSuffix == null)
             imageSuffix = "";
-        // Compose image with color using an image filter.
-        Image tinted = tintedVersions.get(color + imageSuffix);
-        if (tinted == null) // not cached, need new filter for color
+
+        Map<Color, Sprite> tints = sprites.get(imageSuffix);
+        if (tints == null) // not cached, need to fetch
         {
-            Image untinted = tintedVersions.get(imageSuffix);
-            if (untinted == null) // not cached, need to fetch
+            BufferedImage untinted;
+            try
             {
-                try
-                {
-                    URL url = cl.getClassLoader().getResource(
-                            imageFilename + imageSuffix + imageExtension);
-                    if (url == null)
-                        throw new FileNotFoundException(imageFilename
-                                + imageSuffix + imageExtension + " not found.");
-                    untinted = ImageIO.read(url);
-                    tintedVersions.put(imageSuffix, untinted);
-                }
-                catch (IOException ex)
-                {
-                    untinted = tintedVersions.get("");
-                }
+                URL url = cl.getClassLoader().getResource(
+                        imageFilename + imageSuffix + imageExtension);
+                if (url == null)
+                    throw new FileNotFoundException(imageFilename
+                            + imageSuffix + imageExtension + " not found.");
+                untinted = ImageIO.read(url);
             }
-            if (color == null)
-                tinted = untinted;
-            else
+            catch (IOException ex)
             {
-                FilteredImageSource src = new FilteredImageSource(untinted
-                    .getSource(), new TintFilter(color));
-                tinted = comp.createImage(src);
-                // Cache tinted image in map by color, we're likely to need it
-                // again.
-                tintedVersions.put(color + imageSuffix, tinted);
+                // remember the fallback so the file is not looked for again
+                untinted = sprites.get("").get(null).image;
             }
+            tints = addSprite(imageSuffix, null, untinted);
+        }
+
+        Sprite sprite = tints.get(color);
+        if (sprite == null) // not cached, need new filter for color
+        {
+            BufferedImage tinted = tint(tints.get(null).image, color);
+            // Cache tinted image by color, we're likely to need it again.
+            sprite = new Sprite(tinted);
+            tints.put(color, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Caches a sprite.
+     * @param imageSuffix the image suffix of the sprite
+     * @param color the tint of the sprite, or null if untinted
+     * @param image the full-size image of the sprite
+     * @return the sprites with the same image suffix
+     */
+    private Map<Color, Sprite> addSprite(String imageSuffix, Color color,
+            BufferedImage image)
+    {
+        Map<Color, Sprite> tints = sprites.get(imageSuffix);
+        if (tints == null)
+        {
+            tints = new HashMap<Color, Sprite>();
+            sprites.put(imageSuffix, tints);
+        }
+        tints.put(color, new Sprite(image));
+        return tints;
+    }
+
+    /**
+     * Tints an image right away with the tint filter. An image with a color
+     * table, like the GIF files, only needs its table tinted.
+     * @param untinted the image to tint
+     * @param color the tint color
+     * @return the tinted image
+     */
+    private static BufferedImage tint(BufferedImage untinted, Color color)
+    {
+        TintFilter filter = new TintFilter(color);
+        ColorModel model = untinted.getColorModel();
+        if (model instanceof IndexColorModel)
+            return new BufferedImage(filter.filterIndexColorModel(
+                    (IndexColorModel) model), untinted.getRaster(), false,
+                    null);
+
+        int width = untinted.getWidth();
+        int height = untinted.getHeight();
+        BufferedImage tinted = new BufferedImage(width, height,
+                BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                tinted.setRGB(x, y, filter.filterRGB(x, y,
+                        untinted.getRGB(x, y)));
+        return tinted;
+    }
+
+    /**
+     * A tinted image together with copies already scaled to a cell size. Two
+     * sizes are kept, since the grid and the legend icons draw at different
+     * sizes in the same frame.
+     */
+    private static class Sprite
+    {
+        private BufferedImage image;
+        private Image[] scaled = new Image[2];
+        private int[] scaledSize = new int[2];
+        private int next; // the slot to replace when a new size is asked for
+
+        /**
+         * Constructs a sprite.
+         * @param image the full-size image
+         */
+        public Sprite(BufferedImage image)
+        {
+            this.image = image;
+        }
+
+        /**
+         * Gets the image scaled to fit a square cell, scaling it only if
+         * this size was not asked for recently.
+         * @param cellSize the width and height of the cell in pixels
+         * @param comp the component that will draw the image
+         * @return the scaled image
+         */
+        public Image scaledTo(int cellSize, Component comp)
+        {
+            for (int i = 0; i < scaled.length; i++)
+                if (scaled[i] != null && scaledSize[i] == cellSize)
+                    return scaled[i];
+
+            // scale without smoothing, as drawing the image through a
+            // scaled graphics context did, so the GIF transparency stays
+            // on or off and the colors stay in the color table
+            int size = Math.max(image.getWidth(), image.getHeight());
+            double factor = (double) Math.max(1, cellSize) / size;
+            AffineTransformOp op = new AffineTransformOp(
+                    AffineTransform.getScaleInstance(factor, factor),
+                    AffineTransformOp.TYPE_NEAREST_NEIGHBOR);
+            BufferedImage copy = op.filter(image, null);
+
+            // an image compatible with the screen can be kept in video memory
+            GraphicsConfiguration gc = comp == null ? null
+                    : comp.getGraphicsConfiguration();
+            if (gc != null)
+            {
+                BufferedImage compatible = gc.createCompatibleImage(
+                        copy.getWidth(), copy.getHeight(),
+                        copy.getColorModel().getTransparency());
+                Graphics2D g2 = compatible.createGraphics();
+                g2.drawImage(copy, 0, 0, null);
+                g2.dispose();
+                copy = compatible;
+            }
+
+            scaled[next] = copy;
+            scaledSize[next] = cellSize;
+            next = (next + 1) % scaled.length;
+            return copy;
         }
-        int width = tinted.getWidth(null);
-        int height = tinted.getHeight(null);
-        int size = Math.max(width, height);
-        
-        // Scale to shrink or enlarge the image to fit the size 1x1 cell.
-        g2.scale(1.0 / size, 1.0 / size);
-        g2.clip(new Rectangle(-width / 2, -height / 2, width, height));
-        g2.drawImage(tinted, -width / 2, -height / 2, null);
     }
 
     /**
@@ -211,6 +211,16 @@ public class WorldFrame<T> extends JFrame
         super.repaint();
     }
 
+    /**
+     * Repaints the cell of one location of the grid, leaving the message and
+     * the rest of the grid alone.
+     * @param loc the location to repaint
+     */
+    public void repaintLocation(Location loc)
+    {
+        display.repaintLocation(loc);
+    }
+
     /**
      * Gets the world that this frame displays
      * @return the world
@@ -43,10 +43,11 @@ public class World<T>
     private String message;
     private JFrame frame;
 
-    private static Random generator = new Random();
+    private Random generator = new Random();
 
     private static final int DEFAULT_ROWS = 10;
     private static final int DEFAULT_COLS = 10;
+    private static final int RANDOM_TRIES = 64;
 
     public World()
     {
@@ -61,6 +62,18 @@ public class World<T>
         occupantClassNames = new TreeSet<String>();
         addGridClass("gridworld.grid.BoundedGrid");
         addGridClass("gridworld.grid.UnboundedGrid");
+        addGridClass("gridworld.grid.OpenAddressGrid");
+        addGridClass("gridworld.grid.ChunkedGrid");
+    }
+
+    /**
+     * Seeds the generator this world picks random locations with, so the same seed gives the same
+     * locations.  Each world has its own generator, so worlds on different threads never share one.
+     * @param seed the seed for this world's generator
+     */
+    public void setSeed(long seed)
+    {
+        generator = new Random(seed);
     }
 
     /**
@@ -171,14 +184,34 @@ public class World<T>
         int rows = gr.getNumRows();
         int cols = gr.getNumCols();
 
-        if (rows > 0 && cols > 0) // bounded grid
+        if (gr instanceof BoundedGrid)
+        {
+            // the grid keeps its empty locations, so no scan is needed
+            BoundedGrid<T> bg = (BoundedGrid<T>) gr;
+            int emptyCount = bg.getEmptyCount();
+            if (emptyCount == 0)
+                return null;
+            return bg.getEmptyLocation(generator.nextInt(emptyCount));
+        }
+        else if (rows > 0 && cols > 0) // other bounded grid
         {
+            // a mostly empty grid almost always gives an empty location
+            // within a few random tries, which are as uniform as the scan
+            if (gr.getOccupiedCount() <= (long) rows * cols / 2)
+                for (int tries = 0; tries < RANDOM_TRIES; tries++)
+                {
+                    Location loc = Location.of(generator.nextInt(rows),
+                            generator.nextInt(cols));
+                    if (gr.isValid(loc) && gr.get(loc) == null)
+                        return loc;
+                }
+
             // get all valid empty locations and pick one at random
             ArrayList<Location> emptyLocs = new ArrayList<Location>();
             for (int i = 0; i < rows; i++)
                 for (int j = 0; j < cols; j++)
                 {
-                    Location loc = new Location(i, j);
+                    Location loc = Location.of(i, j);
                     if (gr.isValid(loc) && gr.get(loc) == null)
                         emptyLocs.add(loc);
                 }
@@ -190,9 +223,9 @@ public class World<T>
         else
         // unbounded grid
         {
-            while (true)
+            // generate random locations until an empty one is found
+            for (int tries = 0; tries < RANDOM_TRIES; tries++)
             {
-                // keep generating a random location until an empty one is found
                 int r;
                 if (rows < 0)
                     r = (int) (DEFAULT_ROWS * generator.nextGaussian());
@@ -203,10 +236,23 @@ public class World<T>
                     c = (int) (DEFAULT_COLS * generator.nextGaussian());
                 else
                     c = generator.nextInt(cols);
-                Location loc = new Location(r, c);
+                Location loc = Location.of(r, c);
                 if (gr.isValid(loc) && gr.get(loc) == null)
                     return loc;
             }
+
+            // crowded near the origin: step just past the occupants along an
+            // unbounded direction, which is always empty
+            int maxRow = -1;
+            int maxCol = -1;
+            for (Location loc : gr.getOccupiedLocations())
+            {
+                maxRow = Math.max(maxRow, loc.getRow());
+                maxCol = Math.max(maxCol, loc.getCol());
+            }
+            if (rows < 0)
+                return Location.of(maxRow + 1, cols > 0 ? 0 : maxCol + 1);
+            return Location.of(0, maxCol + 1);
         }
     }
 
@@ -218,7 +264,7 @@ public class World<T>
     public void add(Location loc, T occupant)
     {
         getGrid().put(loc, occupant);
-        repaint();
+        repaint(loc);
     }
 
     /**
@@ -229,7 +275,7 @@ public class World<T>
     public T remove(Location loc)
     {
         T r = getGrid().remove(loc);
-        repaint();
+        repaint(loc);
         return r;
     }
 
@@ -277,6 +323,18 @@ public class World<T>
             frame.repaint();
     }
 
+    /**
+     * Repaints only the cell of a location, since nothing else changed.
+     * @param loc the location that changed
+     */
+    private void repaint(Location loc)
+    {
+        if (frame instanceof WorldFrame)
+            ((WorldFrame<?>) frame).repaintLocation(loc);
+        else
+            repaint();
+    }
+
     /**
      * Returns a string that shows the positions of the grid occupants.
      */
@@ -310,7 +368,7 @@ public class World<T>
         {
             for (int j = cmin; j < cmax; j++)
             {
-                Object obj = gr.get(new Location(i, j));
+                Object obj = gr.get(Location.of(i, j));
                 if (obj == null)
                     s += " ";
                 else